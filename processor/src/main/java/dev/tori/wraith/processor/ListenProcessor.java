@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code SubscriberRegistrar} for every subscriber type that declares {@code @Listen} methods.
+ * <p>
+ * The generated registrar is named after the binary name of the subscriber type followed by
+ * {@value #REGISTRAR_SUFFIX}, lives in the same package, and registers one listener per {@code @Listen} method,
+ * invoking the method directly rather than through reflection, and wraps its failures in the same
+ * {@code RuntimeException} as the reflective invokables. It honours the same rules as the reflective scan in
+ * {@code Subscriber}: only methods declared by the type itself, with at most one parameter, that are not abstract.
+ * <p>
+ * Types that cannot be registered without reflection, because they or one of their {@code @Listen} methods are
+ * {@code private}, or because they are local or anonymous, are skipped with a note, and keep being registered
+ * reflectively at runtime. So are types that inherit {@code @Listen} methods from a superclass or interface, since
+ * the reflective scan resolves inherited listeners and their overrides.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@SupportedAnnotationTypes(ListenProcessor.LISTEN)
+public class ListenProcessor extends AbstractProcessor {
+
+    static final String LISTEN = "dev.tori.wraith.listener.Listen";
+    static final String REGISTRAR_SUFFIX = "_WraithRegistrar";
+
+    private static final String SUBSCRIBER = "dev.tori.wraith.subscriber.ISubscriber";
+    private static final String REGISTRAR = "dev.tori.wraith.subscriber.SubscriberRegistrar";
+    private static final String ADAPTED = "dev.tori.wraith.subscriber.Adapted";
+    private static final String LISTENER_BUILDER = "dev.tori.wraith.listener.ListenerBuilder";
+    private static final String TARGETING_RULE = "dev.tori.wraith.event.Target.TargetingRule";
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement listen = elements.getTypeElement(LISTEN);
+        TypeElement subscriber = elements.getTypeElement(SUBSCRIBER);
+        if ((listen == null) || (subscriber == null)) {
+            return false;
+        }
+
+        Map<TypeElement, List<ExecutableElement>> methodsByType = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(listen)) {
+            if ((element.getKind() == ElementKind.METHOD) && (element.getEnclosingElement() instanceof TypeElement type)) {
+                methodsByType.computeIfAbsent(type, t -> new ArrayList<>()).add((ExecutableElement) element);
+            }
+        }
+
+        for (Map.Entry<TypeElement, List<ExecutableElement>> entry : methodsByType.entrySet()) {
+            TypeElement type = entry.getKey();
+            if (!types.isAssignable(types.erasure(type.asType()), types.erasure(subscriber.asType()))) {
+                continue;
+            }
+
+            List<ExecutableElement> methods = new ArrayList<>();
+            for (ExecutableElement method : entry.getValue()) {
+                if ((method.getParameters().size() <= 1) && !method.getModifiers().contains(Modifier.ABSTRACT)) {
+                    methods.add(method);
+                }
+            }
+            if (methods.isEmpty()) {
+                continue;
+            }
+
+            String reason = unsupportedReason(type, methods, listen);
+            if (reason != null) {
+                messager.printMessage(Diagnostic.Kind.NOTE,
+                        "Not generating a registrar for " + type.getQualifiedName() + " (" + reason + "); it will be registered reflectively.",
+                        type);
+                continue;
+            }
+
+            try {
+                writeRegistrar(type, methods, listen);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write registrar: " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return why the given type cannot be registered without reflection, or {@code null} if it can.
+     */
+    private String unsupportedReason(TypeElement type, List<ExecutableElement> methods, TypeElement listen) {
+        for (Element element = type; element instanceof TypeElement enclosing; element = element.getEnclosingElement()) {
+            NestingKind nesting = enclosing.getNestingKind();
+            if ((nesting == NestingKind.LOCAL) || (nesting == NestingKind.ANONYMOUS)) {
+                return "local or anonymous class";
+            }
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                return enclosing.getSimpleName() + " is private";
+            }
+        }
+        for (AnnotationMirror mirror : elements.getAllAnnotationMirrors(type)) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ADAPTED)) {
+                return "adapted subscribers register a single adapter";
+            }
+        }
+        for (ExecutableElement method : methods) {
+            if (method.getModifiers().contains(Modifier.PRIVATE)) {
+                return method.getSimpleName() + " is private";
+            }
+        }
+        for (TypeMirror supertype : types.directSupertypes(type.asType())) {
+            TypeElement inherited = declaresListener((TypeElement) types.asElement(supertype), listen);
+            if (inherited != null) {
+                return "inherits listeners from " + inherited.getQualifiedName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the given type or one of its supertypes that declares a {@code @Listen} method, or {@code null} if there
+     * is none.
+     */
+    private TypeElement declaresListener(TypeElement type, TypeElement listen) {
+        if (type.getQualifiedName().contentEquals("java.lang.Object")) {
+            return null;
+        }
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            for (AnnotationMirror mirror : member.getAnnotationMirrors()) {
+                if (types.isSameType(mirror.getAnnotationType(), listen.asType())) {
+                    return type;
+                }
+            }
+        }
+        for (TypeMirror supertype : types.directSupertypes(type.asType())) {
+            TypeElement inherited = declaresListener((TypeElement) types.asElement(supertype), listen);
+            if (inherited != null) {
+                return inherited;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code true} if {@code @Generated} is visible to the given type, which is not the case when the
+     * {@code java.compiler} module is not observable, or not read by the module of the type.
+     */
+    private boolean canAnnotateGenerated(TypeElement type) {
+        TypeElement generated = elements.getTypeElement(GENERATED);
+        if (generated == null) {
+            return false;
+        }
+        ModuleElement module = elements.getModuleOf(type);
+        ModuleElement compiler = elements.getModuleOf(generated);
+        if ((module == null) || (compiler == null) || module.equals(compiler)) {
+            return true;
+        }
+        if (module.isUnnamed()) {
+            // The unnamed module reads every module in the module graph.
+            return elements.getTypeElement(module, GENERATED) != null;
+        }
+        for (ModuleElement.RequiresDirective requires : ElementFilter.requiresIn(module.getDirectives())) {
+            if (readsThrough(requires.getDependency(), compiler, new HashSet<>())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if reading {@code dependency} implies reading {@code target}, through {@code requires
+     * transitive} directives.
+     */
+    private static boolean readsThrough(ModuleElement dependency, ModuleElement target, Set<ModuleElement> visited) {
+        if (dependency.equals(target)) {
+            return true;
+        }
+        if (!visited.add(dependency)) {
+            return false;
+        }
+        for (ModuleElement.RequiresDirective requires : ElementFilter.requiresIn(dependency.getDirectives())) {
+            if (requires.isTransitive() && readsThrough(requires.getDependency(), target, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeRegistrar(TypeElement type, List<ExecutableElement> methods, TypeElement listen) throws IOException {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + REGISTRAR_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : (packageName + "." + simpleName);
+        String subscriberType = types.erasure(type.asType()).toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        if (canAnnotateGenerated(type)) {
+            source.append('@').append(GENERATED).append("(\"").append(ListenProcessor.class.getName()).append("\")\n");
+        }
+        source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(REGISTRAR).append('<').append(subscriberType).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public void registerListeners(").append(subscriberType).append(" subscriber) {\n");
+        for (ExecutableElement method : methods) {
+            appendListener(source, method, listen, subscriberType);
+        }
+        source.append("    }\n")
+                .append("}\n");
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private void appendListener(StringBuilder source, ExecutableElement method, TypeElement listen, String subscriberType) {
+        int priority = 0;
+        int persists = 0;
+        String rule = "FINE";
+        TypeMirror targetClass = null;
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            if (!types.isSameType(mirror.getAnnotationType(), listen.asType())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+                Object constant = value.getValue().getValue();
+                switch (value.getKey().getSimpleName().toString()) {
+                    case "priority" -> priority = (Integer) constant;
+                    case "persists" -> persists = (Integer) constant;
+                    case "rule" -> rule = ((VariableElement) constant).getSimpleName().toString();
+                    case "targetClass" -> targetClass = (TypeMirror) constant;
+                }
+            }
+        }
+
+        boolean hasParameter = method.getParameters().size() == 1;
+        String eventType = hasParameter ? boxedErasure(method.getParameters().get(0).asType()) : "java.lang.Object";
+        String target = ((targetClass == null) || isObject(targetClass)) ? eventType : types.erasure(targetClass).toString();
+
+        String receiver = method.getModifiers().contains(Modifier.STATIC) ? subscriberType : "subscriber";
+        // Wraps failures the same way as the reflective invokables of ReflectionUtil.
+        String invokable = "event -> {\n"
+                + "                    try {\n"
+                + "                        " + receiver + "." + method.getSimpleName() + (hasParameter ? "(event);\n" : "();\n")
+                + "                    } catch (Throwable t) {\n"
+                + "                        throw new RuntimeException(\"Error invoking method: " + method.getSimpleName() + "\", t);\n"
+                + "                    }\n"
+                + "                }";
+
+        source.append("        subscriber.registerListener(new ").append(LISTENER_BUILDER).append('<').append(eventType).append(">()\n")
+                .append("                .priority(").append(priority).append(")\n")
+                .append("                .persists(").append(persists).append(")\n")
+                .append("                .target(").append(target).append(".class, ").append(TARGETING_RULE).append('.').append(rule).append(")\n")
+                .append("                .invokable(").append(invokable).append(")\n")
+                .append("                .build());\n");
+    }
+
+    private boolean isObject(TypeMirror type) {
+        return (type.getKind() == TypeKind.DECLARED)
+                && ((TypeElement) types.asElement(type)).getQualifiedName().contentEquals("java.lang.Object");
+    }
+
+    /**
+     * @return the source name of the erasure of the given type, boxed if it is primitive.
+     */
+    private String boxedErasure(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        }
+        return types.erasure(type).toString();
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.processor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Tests for {@link ListenProcessor}, compiling subscribers against minimal copies of the Wraith API it generates
+ * calls to.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class ListenProcessorTest {
+
+    @TempDir
+    Path dir;
+
+    private Path sources;
+    private Path generated;
+    private Path classes;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sources = Files.createDirectories(dir.resolve("src"));
+        generated = Files.createDirectories(dir.resolve("generated"));
+        classes = Files.createDirectories(dir.resolve("classes"));
+
+        write("dev/tori/wraith/listener/Listen.java", """
+                package dev.tori.wraith.listener;
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface Listen {
+                    int priority() default 0;
+                    int persists() default 0;
+                    dev.tori.wraith.event.Target.TargetingRule rule() default dev.tori.wraith.event.Target.TargetingRule.FINE;
+                    Class<?> targetClass() default Object.class;
+                }
+                """);
+        write("dev/tori/wraith/event/Target.java", """
+                package dev.tori.wraith.event;
+                public final class Target {
+                    public enum TargetingRule { FINE, CASCADE }
+                }
+                """);
+        write("dev/tori/wraith/listener/Invokable.java", """
+                package dev.tori.wraith.listener;
+                public interface Invokable<T> { void invoke(T event); }
+                """);
+        write("dev/tori/wraith/listener/ListenerBuilder.java", """
+                package dev.tori.wraith.listener;
+                public class ListenerBuilder<T> {
+                    public ListenerBuilder<T> priority(int priority) { return this; }
+                    public ListenerBuilder<T> persists(int persists) { return this; }
+                    public ListenerBuilder<T> target(Class<?> clazz, dev.tori.wraith.event.Target.TargetingRule rule) { return this; }
+                    private Invokable<T> invokable;
+                    public ListenerBuilder<T> invokable(Invokable<T> invokable) { this.invokable = invokable; return this; }
+                    public Object build() { return invokable; }
+                }
+                """);
+        write("dev/tori/wraith/subscriber/ISubscriber.java", """
+                package dev.tori.wraith.subscriber;
+                public interface ISubscriber { <T> T registerListener(T listener); }
+                """);
+        write("dev/tori/wraith/subscriber/SubscriberRegistrar.java", """
+                package dev.tori.wraith.subscriber;
+                public interface SubscriberRegistrar<S extends ISubscriber> { void registerListeners(S subscriber); }
+                """);
+    }
+
+    @Test
+    void generatesRegistrarWithDirectCalls() throws IOException {
+        write("demo/Handlers.java", """
+                package demo;
+                import dev.tori.wraith.event.Target;
+                import dev.tori.wraith.listener.Listen;
+                import dev.tori.wraith.subscriber.ISubscriber;
+                public class Handlers implements ISubscriber {
+                    public <T> T registerListener(T listener) { return listener; }
+                    @Listen(priority = 5) void onString(String event) { }
+                    @Listen protected void onInt(int event) { }
+                    @Listen(targetClass = Number.class, rule = Target.TargetingRule.CASCADE) void onAny() { }
+                    @Listen static void onStatic(java.util.List<String> event) { }
+                    @Listen void ignored(String first, String second) { }
+                    public static class Nested implements ISubscriber {
+                        public <T> T registerListener(T listener) { return listener; }
+                        @Listen public void onEvent(Object event) { }
+                    }
+                }
+                """);
+
+        Assertions.assertEquals(List.of(), compile());
+
+        String registrar = Files.readString(generated.resolve("demo/Handlers_WraithRegistrar.java"));
+        Assertions.assertTrue(registrar.contains("@javax.annotation.processing.Generated(\"dev.tori.wraith.processor.ListenProcessor\")"));
+        Assertions.assertTrue(registrar.contains("implements dev.tori.wraith.subscriber.SubscriberRegistrar<demo.Handlers>"));
+        Assertions.assertTrue(registrar.contains(".priority(5)"));
+        Assertions.assertTrue(registrar.contains("subscriber.onString(event);"));
+        Assertions.assertTrue(registrar.contains("ListenerBuilder<java.lang.Integer>"));
+        Assertions.assertTrue(registrar.contains(".target(java.lang.Number.class, dev.tori.wraith.event.Target.TargetingRule.CASCADE)"));
+        Assertions.assertTrue(registrar.contains("subscriber.onAny();"));
+        Assertions.assertTrue(registrar.contains("demo.Handlers.onStatic(event);"));
+        Assertions.assertFalse(registrar.contains("ignored"));
+
+        Assertions.assertTrue(Files.exists(generated.resolve("demo/Handlers$Nested_WraithRegistrar.java")));
+        Assertions.assertTrue(Files.exists(classes.resolve("demo/Handlers$Nested_WraithRegistrar.class")));
+    }
+
+    @Test
+    void generatedInvokablesWrapFailuresLikeReflectiveOnes() throws Exception {
+        write("demo/Failing.java", """
+                package demo;
+                import dev.tori.wraith.listener.Listen;
+                import dev.tori.wraith.subscriber.ISubscriber;
+                public class Failing implements ISubscriber {
+                    public final java.util.List<Object> listeners = new java.util.ArrayList<>();
+                    public <T> T registerListener(T listener) { listeners.add(listener); return listener; }
+                    @Listen void onString(String event) throws java.io.IOException { throw new java.io.IOException(event); }
+                    @Listen void onAny() { throw new IllegalStateException(); }
+                }
+                """);
+
+        Assertions.assertEquals(List.of(), compile());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> subscriberClass = loader.loadClass("demo.Failing");
+            Object subscriber = subscriberClass.getConstructor().newInstance();
+            Object registrar = loader.loadClass("demo.Failing_WraithRegistrar").getConstructor().newInstance();
+            registrar.getClass().getMethod("registerListeners", subscriberClass).invoke(registrar, subscriber);
+            Method invoke = loader.loadClass("dev.tori.wraith.listener.Invokable").getMethod("invoke", Object.class);
+
+            List<?> listeners = (List<?>) subscriberClass.getField("listeners").get(subscriber);
+            Assertions.assertEquals(2, listeners.size());
+
+            Throwable checked = Assertions.assertThrows(InvocationTargetException.class,
+                    () -> invoke.invoke(listeners.get(0), "event")).getCause();
+            Assertions.assertEquals(RuntimeException.class, checked.getClass());
+            Assertions.assertEquals("Error invoking method: onString", checked.getMessage());
+            Assertions.assertInstanceOf(IOException.class, checked.getCause());
+
+            Throwable unchecked = Assertions.assertThrows(InvocationTargetException.class,
+                    () -> invoke.invoke(listeners.get(1), "event")).getCause();
+            Assertions.assertEquals("Error invoking method: onAny", unchecked.getMessage());
+            Assertions.assertInstanceOf(IllegalStateException.class, unchecked.getCause());
+        }
+    }
+
+    @Test
+    void skipsTypesThatNeedReflection() throws IOException {
+        write("demo/Hidden.java", """
+                package demo;
+                import dev.tori.wraith.listener.Listen;
+                import dev.tori.wraith.subscriber.ISubscriber;
+                public class Hidden implements ISubscriber {
+                    public <T> T registerListener(T listener) { return listener; }
+                    @Listen private void onString(String event) { }
+                    private static class Inner implements ISubscriber {
+                        public <T> T registerListener(T listener) { return listener; }
+                        @Listen void onEvent(Object event) { }
+                    }
+                }
+                """);
+        write("demo/NotASubscriber.java", """
+                package demo;
+                import dev.tori.wraith.listener.Listen;
+                public class NotASubscriber {
+                    @Listen void onEvent(Object event) { }
+                }
+                """);
+
+        Assertions.assertEquals(List.of(), compile());
+        try (Stream<Path> files = Files.walk(generated)) {
+            Assertions.assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void skipsTypesThatInheritListeners() throws IOException {
+        write("demo/Base.java", """
+                package demo;
+                import dev.tori.wraith.listener.Listen;
+                import dev.tori.wraith.subscriber.ISubscriber;
+                public class Base implements ISubscriber {
+                    public <T> T registerListener(T listener) { return listener; }
+                    @Listen public void onString(String event) { }
+                }
+                """);
+        write("demo/Child.java", """
+                package demo;
+                import dev.tori.wraith.listener.Listen;
+                public class Child extends Base {
+                    @Listen public void onObject(Object event) { }
+                }
+                """);
+
+        Assertions.assertEquals(List.of(), compile());
+        Assertions.assertTrue(Files.exists(generated.resolve("demo/Base_WraithRegistrar.java")));
+        Assertions.assertFalse(Files.exists(generated.resolve("demo/Child_WraithRegistrar.java")));
+    }
+
+    @Test
+    void skipsAdaptedTypes() throws IOException {
+        write("dev/tori/wraith/subscriber/Adapted.java", """
+                package dev.tori.wraith.subscriber;
+                @java.lang.annotation.Inherited
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface Adapted { }
+                """);
+        write("demo/Adapter.java", """
+                package demo;
+                import dev.tori.wraith.listener.Listen;
+                import dev.tori.wraith.subscriber.Adapted;
+                import dev.tori.wraith.subscriber.ISubscriber;
+                @Adapted
+                public class Adapter implements ISubscriber {
+                    public <T> T registerListener(T listener) { return listener; }
+                    @Listen public void onString(String event) { }
+                }
+                """);
+
+        Assertions.assertEquals(List.of(), compile());
+        Assertions.assertFalse(Files.exists(generated.resolve("demo/Adapter_WraithRegistrar.java")));
+    }
+
+    @Test
+    void omitsGeneratedAnnotationWhenJavaCompilerIsNotReadable() throws IOException {
+        write("module-info.java", """
+                module demo {
+                    exports dev.tori.wraith.subscriber;
+                }
+                """);
+        write("demo/Handlers.java", """
+                package demo;
+                import dev.tori.wraith.listener.Listen;
+                import dev.tori.wraith.subscriber.ISubscriber;
+                public class Handlers implements ISubscriber {
+                    public <T> T registerListener(T listener) { return listener; }
+                    @Listen void onString(String event) { }
+                }
+                """);
+
+        Assertions.assertEquals(List.of(), compile());
+        String registrar = Files.readString(generated.resolve("demo/Handlers_WraithRegistrar.java"));
+        Assertions.assertFalse(registrar.contains("@javax.annotation.processing.Generated"));
+        Assertions.assertTrue(Files.exists(classes.resolve("demo/Handlers_WraithRegistrar.class")));
+    }
+
+    @Test
+    void omitsGeneratedAnnotationWhenJavaCompilerIsNotObservable() throws IOException {
+        write("demo/Handlers.java", """
+                package demo;
+                import dev.tori.wraith.listener.Listen;
+                import dev.tori.wraith.subscriber.ISubscriber;
+                public class Handlers implements ISubscriber {
+                    public <T> T registerListener(T listener) { return listener; }
+                    @Listen void onString(String event) { }
+                }
+                """);
+
+        Assertions.assertEquals(List.of(), compile("--limit-modules", "java.base"));
+        String registrar = Files.readString(generated.resolve("demo/Handlers_WraithRegistrar.java"));
+        Assertions.assertFalse(registrar.contains("@javax.annotation.processing.Generated"));
+        Assertions.assertTrue(Files.exists(classes.resolve("demo/Handlers_WraithRegistrar.class")));
+    }
+
+    private void write(String path, String source) throws IOException {
+        Path file = sources.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+    }
+
+    /**
+     * @param extraOptions additional compiler options.
+     * @return the compilation errors.
+     */
+    private List<String> compile(String... extraOptions) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(sources)) {
+            files = walk.filter(path -> path.toString().endsWith(".java")).toList();
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            List<String> options = new ArrayList<>(List.of("-d", classes.toString(), "-s", generated.toString(), "-implicit:class"));
+            options.addAll(List.of(extraOptions));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new ListenProcessor()));
+            task.call();
+        }
+        List<String> errors = new ArrayList<>();
+        diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == javax.tools.Diagnostic.Kind.ERROR)
+                .forEach(diagnostic -> errors.add(diagnostic.getMessage(Locale.ROOT)));
+        return errors;
+    }
+}
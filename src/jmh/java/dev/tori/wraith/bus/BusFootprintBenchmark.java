@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating an event bus and registering a few listeners to it, as happens when one bus is kept per session.
+ * <p>
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the number of bytes allocated per bus, which, apart from
+ * the discarded {@link Registration} handles, is its footprint.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BusFootprintBenchmark {
+
+    @Param({"EventBus", "ConcurrentEventBus", "LightweightEventBus"})
+    public String impl;
+
+    @Param({"0", "1", "4"})
+    public int listeners;
+
+    private Listener<?>[] registered;
+
+    @Setup
+    public void setup() {
+        registered = new Listener<?>[listeners];
+        for (int i = 0; i < listeners; i++) {
+            registered[i] = new LambdaEventListener<>(Target.fine(String.class), i, event -> {
+            });
+        }
+    }
+
+    @Benchmark
+    public IEventBus create() {
+        IEventBus bus = switch (impl) {
+            case "EventBus" -> new EventBus();
+            case "ConcurrentEventBus" -> new ConcurrentEventBus();
+            case "LightweightEventBus" -> new LightweightEventBus();
+            default -> throw new IllegalArgumentException(impl);
+        };
+        for (Listener<?> listener : registered) {
+            bus.register(listener);
+        }
+        return bus;
+    }
+}
\ No newline at end of file
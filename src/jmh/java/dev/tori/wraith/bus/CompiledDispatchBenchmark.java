@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.Invokable;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listen;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.subscriber.Subscriber;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures dispatching one event to a chain of listeners through {@link EventBus}'s loop, and through the generated
+ * chain of a {@link CompiledEventBus}.
+ * <p>
+ * Listeners cycle through eight distinct lambda classes, so the loop's single call site is megamorphic, as it would
+ * be with listeners registered by unrelated subscribers. With {@code source} set to {@code subscriber}, they are
+ * instead the {@link Listen} methods of {@link CountSubscriber} instances, called through the invokers generated for
+ * them.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompiledDispatchBenchmark {
+
+    private static final List<Invokable<CountEvent>> INVOKABLES = List.of(
+            event -> event.count++,
+            event -> event.count += 2,
+            event -> event.count += 3,
+            event -> event.count += 4,
+            event -> event.count ^= 5,
+            event -> event.count ^= 6,
+            event -> event.count -= 7,
+            event -> event.count -= 8
+    );
+
+    @Param({"1", "4", "16", "64"})
+    public int listeners;
+
+    @Param({"loop", "compiled"})
+    public String impl;
+
+    @Param({"lambda", "subscriber"})
+    public String source;
+
+    private EventBus bus;
+    private CountEvent event;
+
+    @Setup
+    public void setup() {
+        bus = switch (impl) {
+            case "loop" -> new EventBus();
+            case "compiled" -> new CompiledEventBus();
+            default -> throw new IllegalArgumentException(impl);
+        };
+        if (source.equals("subscriber")) {
+            Iterator<Listener<?>> methods = null;
+            for (int i = 0; i < listeners; i++) {
+                if ((methods == null) || !methods.hasNext()) {
+                    methods = new CountSubscriber().getListeners().iterator();
+                }
+                bus.register(methods.next());
+            }
+        } else {
+            for (int i = 0; i < listeners; i++) {
+                bus.register(new LambdaEventListener<>(Target.fine(CountEvent.class), i, INVOKABLES.get(i % INVOKABLES.size())));
+            }
+        }
+        bus.prepare(CountEvent.class);
+        event = new CountEvent();
+    }
+
+    @Benchmark
+    public int dispatch() {
+        bus.dispatch(event);
+        return event.count;
+    }
+
+    public static class CountEvent {
+
+        private int count;
+    }
+
+    public static class CountSubscriber extends Subscriber {
+
+        @Listen(priority = 7)
+        public void onFirst(CountEvent event) {
+            event.count++;
+        }
+
+        @Listen(priority = 6)
+        public void onSecond(CountEvent event) {
+            event.count += 2;
+        }
+
+        @Listen(priority = 5)
+        public void onThird(CountEvent event) {
+            event.count += 3;
+        }
+
+        @Listen(priority = 4)
+        public void onFourth(CountEvent event) {
+            event.count += 4;
+        }
+
+        @Listen(priority = 3)
+        public void onFifth(CountEvent event) {
+            event.count ^= 5;
+        }
+
+        @Listen(priority = 2)
+        public void onSixth(CountEvent event) {
+            event.count ^= 6;
+        }
+
+        @Listen(priority = 1)
+        public void onSeventh(CountEvent event) {
+            event.count -= 7;
+        }
+
+        @Listen
+        public void onEighth(CountEvent event) {
+            event.count -= 8;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.subscriber.ISubscriber;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures dispatch throughput on one event type while other threads register and unregister listeners of an
+ * unrelated event type.
+ * <p>
+ * {@code locked} is an {@link EventBus} behind a single lock, which is what callers had to do to share one bus between
+ * threads before {@link ConcurrentEventBus} and {@link StripedEventBus}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RegistrationContentionBenchmark {
+
+    @Param({"locked", "concurrent", "striped"})
+    public String bus;
+    @Param({"1000"})
+    public int unrelatedListeners;
+
+    private IEventBus eventBus;
+    private QuietEvent quietEvent;
+
+    @Setup
+    public void setup() {
+        eventBus = switch (bus) {
+            case "locked" -> new LockedEventBus();
+            case "concurrent" -> new ConcurrentEventBus();
+            case "striped" -> new StripedEventBus();
+            default -> throw new IllegalArgumentException(bus);
+        };
+        for (int i = 0; i < unrelatedListeners; i++) {
+            eventBus.register(new LambdaEventListener<>(Target.fine(FillerEvent.class), i % 10, event -> {
+            }));
+        }
+        for (int i = 0; i < 8; i++) {
+            eventBus.register(new LambdaEventListener<QuietEvent>(Target.fine(QuietEvent.class), i, QuietEvent::handle));
+        }
+        quietEvent = new QuietEvent();
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(6)
+    public void dispatch(Blackhole blackhole) {
+        blackhole.consume(eventBus.dispatch(quietEvent));
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(2)
+    public void registerAndUnregister(ChurnState state) {
+        eventBus.register(state.listener);
+        eventBus.unregister(state.listener);
+    }
+
+    @State(Scope.Thread)
+    public static class ChurnState {
+
+        private final Listener<ChurnEvent> listener = new LambdaEventListener<>(Target.fine(ChurnEvent.class), event -> {
+        });
+    }
+
+    public static class QuietEvent {
+
+        private volatile int handled;
+
+        void handle() {
+            handled++;
+        }
+    }
+
+    public static class ChurnEvent {
+
+    }
+
+    public static class FillerEvent {
+
+    }
+
+    /**
+     * An {@link EventBus} with every operation guarded by one lock.
+     */
+    private static final class LockedEventBus implements IEventBus {
+
+        private final EventBus delegate = new EventBus();
+
+        @Override
+        public synchronized void subscribe(ISubscriber subscriber) {
+            delegate.subscribe(subscriber);
+        }
+
+        @Override
+        public synchronized void unsubscribe(ISubscriber subscriber) {
+            delegate.unsubscribe(subscriber);
+        }
+
+        @Override
+        public synchronized void register(Listener<?> listener) {
+            delegate.register(listener);
+        }
+
+        @Override
+        public synchronized void unregister(Listener<?> listener) {
+            delegate.unregister(listener);
+        }
+
+        @Override
+        public synchronized boolean dispatch(Object event) {
+            return delegate.dispatch(event);
+        }
+
+        @Override
+        public synchronized boolean dispatch(Object event, Target target) {
+            return delegate.dispatch(event, target);
+        }
+
+        @Override
+        public synchronized boolean dispatch(Object event, boolean invertPriority) {
+            return delegate.dispatch(event, invertPriority);
+        }
+
+        @Override
+        public synchronized boolean dispatch(Object event, Target target, boolean invertPriority) {
+            return delegate.dispatch(event, target, invertPriority);
+        }
+
+        @Override
+        public synchronized boolean hasListeners(Class<?> eventClass) {
+            return delegate.hasListeners(eventClass);
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.bus.EventBus;
+import dev.tori.wraith.listener.Listen;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures subscribing {@code count} subscribers with eight {@link Listen} methods each, and dispatching to them,
+ * with one listener per method and with one {@linkplain Adapted adapter} per subscriber.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AdaptedSubscriberBenchmark {
+
+    @Param({"1000"})
+    public int count;
+
+    @Param({"listeners", "adapted"})
+    public String mode;
+
+    private EventBus bus;
+    private final TickEvent tick = new TickEvent();
+
+    @Setup
+    public void setup() {
+        bus = subscribeAll();
+    }
+
+    @Benchmark
+    public EventBus subscribe() {
+        return subscribeAll();
+    }
+
+    @Benchmark
+    public boolean dispatch() {
+        return bus.dispatch(tick);
+    }
+
+    private EventBus subscribeAll() {
+        EventBus bus = new EventBus();
+        for (int i = 0; i < count; i++) {
+            bus.subscribe(mode.equals("adapted") ? new AdaptedEntitySubscriber() : new EntitySubscriber());
+        }
+        return bus;
+    }
+
+    public static class EntitySubscriber extends Subscriber {
+
+        int events;
+
+        @Listen
+        public void onTick(TickEvent event) {
+            events++;
+        }
+
+        @Listen(priority = 10)
+        public void onDamage(DamageEvent event) {
+            events++;
+        }
+
+        @Listen
+        public void onMove(MoveEvent event) {
+            events++;
+        }
+
+        @Listen
+        public void onSpawn(SpawnEvent event) {
+            events++;
+        }
+
+        @Listen
+        public void onDeath(DeathEvent event) {
+            events++;
+        }
+
+        @Listen
+        public void onHeal(HealEvent event) {
+            events++;
+        }
+
+        @Listen
+        public void onChat(ChatEvent event) {
+            events++;
+        }
+
+        @Listen
+        public void onInteract(InteractEvent event) {
+            events++;
+        }
+    }
+
+    @Adapted
+    public static class AdaptedEntitySubscriber extends EntitySubscriber {
+
+    }
+
+    public static class TickEvent {
+
+    }
+
+    public static class DamageEvent {
+
+    }
+
+    public static class MoveEvent {
+
+    }
+
+    public static class SpawnEvent {
+
+    }
+
+    public static class DeathEvent {
+
+    }
+
+    public static class HealEvent {
+
+    }
+
+    public static class ChatEvent {
+
+    }
+
+    public static class InteractEvent {
+
+    }
+}
\ No newline at end of file
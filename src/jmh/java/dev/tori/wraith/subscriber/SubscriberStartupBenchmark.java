@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.listener.Listen;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to create {@code count} instances of a subscriber class with several {@link Listen}
+ * methods, as happens when per-entity subscribers are created at startup.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SubscriberStartupBenchmark {
+
+    @Param({"1000"})
+    public int count;
+
+    @Benchmark
+    public Subscriber[] create() {
+        Subscriber[] subscribers = new Subscriber[count];
+        for (int i = 0; i < count; i++) {
+            subscribers[i] = new EntitySubscriber();
+        }
+        return subscribers;
+    }
+
+    public static class EntitySubscriber extends Subscriber {
+
+        private int events;
+
+        @Listen
+        public void onTick(TickEvent event) {
+            events++;
+        }
+
+        @Listen(priority = 10)
+        public void onDamage(DamageEvent event) {
+            events++;
+        }
+
+        @Listen
+        private void onMove(MoveEvent event) {
+            events++;
+        }
+
+        @Listen(targetClass = TickEvent.class)
+        public void onAnyTick() {
+            events++;
+        }
+    }
+
+    public static class TickEvent {
+
+    }
+
+    public static class DamageEvent {
+
+    }
+
+    public static class MoveEvent {
+
+    }
+}
\ No newline at end of file
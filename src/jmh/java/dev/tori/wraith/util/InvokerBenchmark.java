@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.util;
+
+import dev.tori.wraith.bus.EventBus;
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.Invokable;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.ListenerBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code @Listen}-style methods called through each kind of {@link Invokable}, both directly and
+ * through an {@link EventBus}.
+ * <p>
+ * {@code handle} is the {@link java.lang.invoke.MethodHandle} path that {@link ReflectionUtil} falls back to,
+ * {@code generated} is the per-method {@link GeneratedInvoker} it creates by default, and {@code lambda} is a
+ * hand-written {@link LambdaEventListener} calling the same method. {@code dispatchMixed} registers four different
+ * methods on one bus, so the bus calls several invoker classes from the same call site.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InvokerBenchmark {
+
+    @Param({"handle", "generated", "lambda"})
+    public String invoker;
+
+    private Invokable<Object> invokable;
+    private EventBus bus;
+    private EventBus mixedBus;
+    private CountEvent event;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        Handler handler = new Handler();
+        Method method = Handler.class.getDeclaredMethod("onEvent", CountEvent.class);
+        bus = new EventBus();
+        if (invoker.equals("lambda")) {
+            LambdaEventListener<CountEvent> listener = new LambdaEventListener<>(Target.fine(CountEvent.class), handler::onEvent);
+            invokable = event -> listener.invoke((CountEvent) event);
+            bus.register(listener);
+        } else {
+            invokable = switch (invoker) {
+                case "handle" -> ReflectionUtil.createHandleInvokable(method, handler, true);
+                case "generated" -> ReflectionUtil.createInvokable(method, handler, true);
+                default -> throw new IllegalArgumentException(invoker);
+            };
+            bus.register(new ListenerBuilder<>()
+                    .target(CountEvent.class, Target.TargetingRule.FINE)
+                    .invokable(invokable)
+                    .build());
+        }
+        mixedBus = new EventBus();
+        for (String name : new String[]{"onEvent", "onOther", "onThird", "onFourth"}) {
+            Method mixed = Handler.class.getDeclaredMethod(name, CountEvent.class);
+            if (invoker.equals("lambda")) {
+                mixedBus.register(new LambdaEventListener<>(Target.fine(CountEvent.class), lambda(handler, name)));
+            } else {
+                mixedBus.register(new ListenerBuilder<>()
+                        .target(CountEvent.class, Target.TargetingRule.FINE)
+                        .invokable(invoker.equals("handle")
+                                ? ReflectionUtil.createHandleInvokable(mixed, handler, true)
+                                : ReflectionUtil.createInvokable(mixed, handler, true))
+                        .build());
+            }
+        }
+        event = new CountEvent();
+    }
+
+    private static Invokable<CountEvent> lambda(Handler handler, String name) {
+        return switch (name) {
+            case "onEvent" -> handler::onEvent;
+            case "onOther" -> handler::onOther;
+            case "onThird" -> handler::onThird;
+            case "onFourth" -> handler::onFourth;
+            default -> throw new IllegalArgumentException(name);
+        };
+    }
+
+    @Benchmark
+    public int invoke() {
+        invokable.invoke(event);
+        return event.count;
+    }
+
+    @Benchmark
+    public boolean dispatch() {
+        return bus.dispatch(event);
+    }
+
+    @Benchmark
+    public boolean dispatchMixed() {
+        return mixedBus.dispatch(event);
+    }
+
+    public static class CountEvent {
+
+        private int count;
+    }
+
+    public static class Handler {
+
+        public void onEvent(CountEvent event) {
+            event.count++;
+        }
+
+        public void onOther(CountEvent event) {
+            event.count += 2;
+        }
+
+        public void onThird(CountEvent event) {
+            event.count += 3;
+        }
+
+        public void onFourth(CountEvent event) {
+            event.count += 4;
+        }
+    }
+}
@@ -30,12 +30,17 @@ import dev.tori.wraith.task.TaskExecutor;
 import dev.tori.wraith.util.IndexedHashSet;
 import org.jetbrains.annotations.Contract;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Abstract implementation of {@link IEventBus}.
@@ -63,11 +68,19 @@ public abstract class AbstractEventBus implements IEventBus {
      * @apiNote Shut-down event dispatchers cannot dispatch events, and throw {@link UnsupportedOperationException} when
      * attempting to do so.
      */
-    protected boolean shutdown;
+    protected volatile boolean shutdown;
     /**
      * A {@link Set} of this event bus' {@link ISubscriber subscribers}.
      */
     protected final Set<ISubscriber> subscribers;
+    /**
+     * The {@link Registration registrations} created when each of this event bus' {@link ISubscriber subscribers}
+     * was subscribed, used to unregister its listeners when it is unsubscribed. Its key set backs
+     * {@link #subscribers}.
+     *
+     * @since 4.2.0
+     */
+    protected final Map<ISubscriber, List<Registration>> subscriptions;
     /**
      * A {@link TaskExecutor} that manages the scheduling and execution of tasks associated with events. It provides
      * a mechanism to associate event classes with queues of tasks and ensures their orderly execution when the
@@ -76,6 +89,16 @@ public abstract class AbstractEventBus implements IEventBus {
      * @see #scheduleTask(ScheduledTask)
      */
     protected final TaskExecutor taskExecutor;
+    /**
+     * Incremented by implementations whenever a listener is unregistered.
+     * <p>
+     * A dispatch reads this count before invoking its chain, and only asks {@link #isRegistered(Listener)} about the
+     * listeners it reaches once the count has changed. A listener unregistered by another listener of the same
+     * dispatch is therefore skipped, at the cost of one field read per listener otherwise.
+     *
+     * @since 4.2.0
+     */
+    protected int unregistrations;
 
     /**
      * Creates a new event bus instance.
@@ -83,7 +106,8 @@ public abstract class AbstractEventBus implements IEventBus {
     public AbstractEventBus() {
         this.id = instances++;
         this.shutdown = false;
-        this.subscribers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        this.subscriptions = new ConcurrentHashMap<>();
+        this.subscribers = subscriptions.keySet();
         this.taskExecutor = new TaskExecutor();
     }
 
@@ -107,24 +131,23 @@ public abstract class AbstractEventBus implements IEventBus {
     public void subscribe(ISubscriber subscriber) {
         Objects.requireNonNull(subscriber, "Cannot subscribe null to event bus " + id + ".");
 
-        subscribers.add(subscriber);
         subscriber.linkToBus(this);
 
         Collection<Listener<?>> listeners = subscriber.getListeners();
-        if (!listeners.isEmpty()) {
-            if (listeners.size() == 1) {
-                register(listeners.iterator().next());
-            } else {
-                for (Listener<?> listener : listeners) {
-                    register(listener);
-                }
-            }
+        List<Registration> registrations = new ArrayList<>(listeners.size());
+        for (Listener<?> listener : listeners) {
+            registrations.add(registerWithHandle(listener));
         }
+        subscriptions.put(subscriber, registrations);
     }
 
     /**
      * Unsubscribes a {@link ISubscriber subscriber} from this event bus and unregisters all the
      * subscriber's {@link Listener listeners}.
+     * <p>
+     * Listeners added when the subscriber was subscribed are unregistered through their
+     * {@link Registration registrations}; every other listener of the subscriber, such as those it registered
+     * afterward, is unregistered directly.
      *
      * @param subscriber the {@link ISubscriber} to be unsubscribed
      * @throws NullPointerException if the given {@link ISubscriber} is {@code null}
@@ -134,19 +157,23 @@ public abstract class AbstractEventBus implements IEventBus {
     public void unsubscribe(ISubscriber subscriber) {
         Objects.requireNonNull(subscriber, "Cannot unsubscribe null from event bus " + id + ".");
 
-        subscribers.remove(subscriber);
+        List<Registration> registrations = subscriptions.remove(subscriber);
         subscriber.unlinkFromBus(this);
 
-        Collection<Listener<?>> listeners = subscriber.getListeners();
-        if (!listeners.isEmpty()) {
-            if (listeners.size() == 1) {
-                unregister(listeners.iterator().next());
-            } else {
-                for (Listener<?> listener : listeners) {
-                    unregister(listener);
+        Set<Listener<?>> unregistered = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (registrations != null) {
+            for (Registration registration : registrations) {
+                if (registration.isActive()) {
+                    registration.unregister();
+                    unregistered.add(registration.getListener());
                 }
             }
         }
+        for (Listener<?> listener : subscriber.getListeners()) {
+            if (!unregistered.contains(listener)) {
+                unregister(listener);
+            }
+        }
     }
 
     /**
@@ -230,6 +257,38 @@ public abstract class AbstractEventBus implements IEventBus {
     @Override
     public abstract boolean dispatch(Object event, Target target, boolean invertPriority);
 
+    /**
+     * Dispatches the event built by the given supplier, but only if at least one listener would receive an event of
+     * the given class, or a {@linkplain ScheduledTask scheduled task} is waiting for one. Otherwise, the supplier is
+     * never called.
+     *
+     * @param eventClass the concrete class of the event to dispatch.
+     * @param supplier   builds the event to dispatch.
+     * @param <E>        the type of the event.
+     * @return {@code true} if the event was built and {@linkplain IStatusEvent suppressed or terminated} by any
+     * listener, {@code false} otherwise.
+     * @throws NullPointerException          if {@code eventClass} or {@code supplier} is {@code null}, or if the
+     *                                       supplier returns {@code null}
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     * @since 4.2.0
+     */
+    @Override
+    public <E> boolean dispatchLazily(Class<E> eventClass, Supplier<? extends E> supplier) {
+        if (eventClass == null) {
+            throw new NullPointerException("Cannot dispatch an event of a null class to event bus " + id + ".");
+        }
+        if (supplier == null) {
+            throw new NullPointerException("Cannot dispatch an event from a null supplier to event bus " + id + ".");
+        }
+        if (isShutdown()) {
+            throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+        }
+        if (!hasListeners(eventClass) && !taskExecutor.hasTasks(eventClass)) {
+            return false;
+        }
+        return dispatch(supplier.get());
+    }
+
     /**
      * Schedules a task to be executed.
      *
@@ -332,6 +391,102 @@ public abstract class AbstractEventBus implements IEventBus {
         }
     }
 
+    /**
+     * Invokes each {@linkplain Listener} of a resolved dispatch chain whose class is matched by the given
+     * {@linkplain Target target listener}.
+     * Listeners are processed either in normal order or in reverse order based on the
+     * {@code invertPriority} flag.
+     * {@linkplain Listener#isExpired() Expired} listeners, and listeners unregistered since the dispatch began, are
+     * skipped, and listeners that should not persist are {@linkplain #expire(Listener) expired} after being invoked.
+     *
+     * @param event          the event to be handled by each listener in the chain
+     * @param chain          the listeners targeting the event's class, in priority order
+     * @param target         the {@linkplain Target target listener} to invoke
+     * @param invertPriority if {@code true}, listeners are processed in order of inverse priority; otherwise,
+     *                       they are processed in normal order
+     * @since 4.2.0
+     */
+    @SuppressWarnings("DuplicatedCode")
+    protected final void dispatchToEachListener(Object event, Listener[] chain, Target target, boolean invertPriority) {
+        int unregistered = unregistrations;
+        if (invertPriority) {
+            for (int i = chain.length - 1; i >= 0; i--) {
+                Listener listener = chain[i];
+                if (!target.targets(listener.getClass()) || listener.isExpired()
+                        || wasUnregistered(listener, unregistered)) {
+                    continue;
+                }
+
+                listener.invoke(event);
+
+                if ((event instanceof IStatusEvent e) && e.isTerminated()) {
+                    break;
+                }
+                if (listener.shouldPersist()) {
+                    continue;
+                }
+                expire(listener);
+            }
+        } else {
+            for (int i = 0; i < chain.length; i++) {
+                Listener listener = chain[i];
+                if (!target.targets(listener.getClass()) || listener.isExpired()
+                        || wasUnregistered(listener, unregistered)) {
+                    continue;
+                }
+
+                listener.invoke(event);
+
+                if ((event instanceof IStatusEvent e) && e.isTerminated()) {
+                    break;
+                }
+                if (listener.shouldPersist()) {
+                    continue;
+                }
+                expire(listener);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a listener of a dispatch chain has been unregistered since the dispatch began.
+     *
+     * @param listener        a listener of the chain being dispatched to.
+     * @param unregistrations the value of {@link #unregistrations} when the dispatch began.
+     * @return {@code true} if the listener should be skipped, {@code false} otherwise.
+     * @since 4.2.0
+     */
+    protected final boolean wasUnregistered(Listener listener, int unregistrations) {
+        return (this.unregistrations != unregistrations) && !isRegistered(listener);
+    }
+
+    /**
+     * Checks whether the given listener is still registered to this event bus.
+     * <p>
+     * Only called during a dispatch, for listeners of its chain, after {@link #unregistrations} has changed.
+     * Implementations that increment {@link #unregistrations} must override this method.
+     *
+     * @param listener a listener of the chain being dispatched to.
+     * @return {@code true} if the listener is registered, {@code false} otherwise.
+     * @since 4.2.0
+     */
+    protected boolean isRegistered(Listener listener) {
+        return true;
+    }
+
+    /**
+     * Removes a listener that should no longer persist after being invoked.
+     * <p>
+     * By default, the listener is {@linkplain #unregister(Listener) unregistered} immediately. Implementations may
+     * instead defer the removal of {@linkplain Listener#isExpired() expired} listeners, and remove several at once.
+     *
+     * @param listener the listener whose {@link Listener#shouldPersist()} returned {@code false}.
+     * @since 4.2.0
+     */
+    protected void expire(Listener listener) {
+        unregister(listener);
+    }
+
     /**
      * Checks if this event bus is equal to another object.
      * <p>
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.event.status.StatusEventPool;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * An asynchronous implementation of {@link IEventBus}.
+ * <p>
+ * Dispatching an event hands it to a configurable {@link Executor} and returns immediately. Each event is delivered by
+ * a single task, which invokes the event's listeners in priority order exactly like {@link ConcurrentEventBus}.
+ * Listener registration is inherited from {@link ConcurrentEventBus}, and may happen concurrently with delivery.
+ * <p>
+ * Two delivery modes are available:
+ * <ul>
+ * <li><b>Unordered</b> (the default): events are submitted to the executor independently, and may be delivered
+ * concurrently and in any order. At most {@code capacity} events may be pending at once.</li>
+ * <li><b>FIFO</b>: every producer thread gets its own lane, and the events of one lane are delivered one at a time,
+ * in the order they were dispatched. Lanes of different producers are delivered concurrently. Each lane holds at
+ * most {@code capacity} pending events.</li>
+ * </ul>
+ * In both modes, a producer dispatching into a full bus blocks until space is available.
+ * <p>
+ * Because events are delivered after {@code dispatch} returns, the {@code dispatch} methods of this event bus always
+ * return {@code false}. Events that are still pending when this event bus is {@linkplain #shutdown() shut down} are
+ * still delivered.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+public class AsyncEventBus extends ConcurrentEventBus {
+
+    /**
+     * Default maximum amount of pending events.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The executor events are delivered on.
+     */
+    private final Executor executor;
+    /**
+     * Indicates whether events are delivered in FIFO order per producer thread.
+     */
+    private final boolean fifo;
+    /**
+     * The maximum amount of pending events, per lane in FIFO mode.
+     */
+    private final int capacity;
+    /**
+     * Bounds the amount of pending events in unordered mode. {@code null} in FIFO mode.
+     */
+    private final Semaphore permits;
+    /**
+     * The lane of each producer thread. {@code null} in unordered mode.
+     * <p>
+     * Lanes must not reference this event bus: each producer thread strongly holds its lane, so a lane referencing
+     * this event bus would keep it, and with it the weakly held key of this thread-local, reachable forever.
+     */
+    private final ThreadLocal<Lane> lanes;
+
+    /**
+     * Creates a new unordered {@link AsyncEventBus} with {@linkplain #DEFAULT_CAPACITY default capacity}.
+     *
+     * @param executor the executor events are delivered on.
+     * @throws NullPointerException if {@code executor} is {@code null}.
+     */
+    public AsyncEventBus(Executor executor) {
+        this(executor, false, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link AsyncEventBus}.
+     *
+     * @param executor the executor events are delivered on.
+     * @param fifo     {@code true} to deliver each producer thread's events in the order they were dispatched.
+     * @param capacity the maximum amount of pending events, per producer thread if {@code fifo} is {@code true}.
+     * @throws NullPointerException     if {@code executor} is {@code null}.
+     * @throws IllegalArgumentException if {@code capacity < 1}.
+     */
+    public AsyncEventBus(Executor executor, boolean fifo, int capacity) {
+        super();
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive, was " + capacity);
+        }
+        this.executor = executor;
+        this.fifo = fifo;
+        this.capacity = capacity;
+        this.permits = fifo ? null : new Semaphore(capacity);
+        this.lanes = fifo ? ThreadLocal.withInitial(() -> new Lane(capacity)) : null;
+    }
+
+    /**
+     * Queues the given event for delivery to all valid registered listeners, blocking while this event bus is full.
+     *
+     * @param event          the event to be dispatched.
+     * @param target         the {@linkplain Target target listener} to invoke.
+     * @param invertPriority flag to dispatch the event in inverse listener priority.
+     * @return {@code false}, as the event has not been delivered yet.
+     * @throws NullPointerException          if the given event is {@code null}
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     * @throws RejectedExecutionException    if the executor rejects the delivery, or the calling thread is interrupted
+     *                                       while waiting for space.
+     */
+    @Override
+    public boolean dispatch(Object event, Target target, boolean invertPriority) {
+        if (event == null) {
+            throw new NullPointerException("Cannot dispatch a null event to event bus " + id + ".");
+        }
+        if (target == null) {
+            throw new NullPointerException("Cannot dispatch an event with a null target to event bus " + id + ".");
+        }
+
+        if (isShutdown()) {
+            throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+        }
+
+        if (fifo) {
+            offer(lanes.get(), new Delivery(event, target, invertPriority));
+        } else {
+            acquirePermit();
+            try {
+                executor.execute(() -> {
+                    try {
+                        deliver(event, target, invertPriority);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Not supported, as the event would be released to the pool before it has been delivered.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public <E extends StatusEvent> boolean dispatchPooled(StatusEventPool pool, Class<E> type, Consumer<? super E> initializer) {
+        throw new UnsupportedOperationException("Event bus " + id + " cannot dispatch pooled events asynchronously.");
+    }
+
+    private void acquirePermit() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to dispatch to event bus " + id + ".", e);
+        }
+    }
+
+    /**
+     * Queues the given delivery in the given lane, and schedules the lane to be drained if it is not already.
+     * <p>
+     * If the executor rejects the drain, the delivery is removed again, so that a dispatch that failed is not
+     * delivered by a later one. No drain can be running at that point, so nothing else could have taken it.
+     */
+    private void offer(Lane lane, Delivery delivery) {
+        try {
+            lane.queue.put(delivery);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to dispatch to event bus " + id + ".", e);
+        }
+        try {
+            schedule(lane);
+        } catch (RuntimeException e) {
+            lane.queue.remove(delivery);
+            throw e;
+        }
+    }
+
+    private void schedule(Lane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(lane));
+            } catch (RuntimeException e) {
+                lane.scheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Delivers the pending events of the given lane until its queue is empty.
+     * <p>
+     * Exceptions thrown by listeners are reported to the current thread's uncaught exception handler, so that one
+     * failing event cannot stall the lane.
+     */
+    private void drain(Lane lane) {
+        do {
+            Delivery delivery;
+            while ((delivery = lane.queue.poll()) != null) {
+                try {
+                    deliver(delivery.event, delivery.target, delivery.invertPriority);
+                } catch (Throwable t) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+                }
+            }
+            lane.scheduled.set(false);
+        } while (!lane.queue.isEmpty() && lane.scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * @return the executor events are delivered on.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return {@code true} if events are delivered in FIFO order per producer thread.
+     */
+    public boolean isFifo() {
+        return fifo;
+    }
+
+    /**
+     * @return the maximum amount of pending events, per producer thread if this event bus {@linkplain #isFifo() is FIFO}.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncEventBus{" +
+                "id=" + id +
+                ", shutdown=" + shutdown +
+                ", fifo=" + fifo +
+                ", capacity=" + capacity +
+                ", executor=" + executor +
+                ", listeners=" + getListeners() +
+                ", subscribers=" + subscribers +
+                ", taskExecutor=" + taskExecutor +
+                '}';
+    }
+
+    /**
+     * A pending dispatch.
+     */
+    private static final class Delivery {
+
+        private final Object event;
+        private final Target target;
+        private final boolean invertPriority;
+
+        private Delivery(Object event, Target target, boolean invertPriority) {
+            this.event = event;
+            this.target = target;
+            this.invertPriority = invertPriority;
+        }
+    }
+
+    /**
+     * A bounded queue of one producer's pending deliveries, drained by at most one executor task at a time.
+     * <p>
+     * Static, so that it does not reference the event bus; see {@code lanes}.
+     */
+    private static final class Lane {
+
+        private final ArrayBlockingQueue<Delivery> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Lane(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
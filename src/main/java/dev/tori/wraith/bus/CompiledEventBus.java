@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.listener.Invokable;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An {@link EventBus} that compiles the dispatch chain of each event class into generated code.
+ * <p>
+ * {@link EventBus} invokes every listener from one loop, through a single call site that sees every listener type,
+ * so the JIT cannot inline any listener's body. This event bus instead defines one hidden class per listener of a
+ * chain, which holds the listener, and the next node of the chain, as constants. Calling the first node calls every
+ * listener in priority order, with the same expiry, unregistration, termination, and persistence checks as
+ * {@link EventBus}, and lets the JIT inline each listener at its own call site.
+ * <p>
+ * Each node calls the next, so chains longer than {@value #SEGMENT_LENGTH} listeners are compiled into several
+ * segments, called one after another, so that a dispatch never nests more than that many nodes on the stack.
+ * <p>
+ * Compiling costs one hidden class per listener, so a chain is only compiled once it has been dispatched to
+ * {@value #STABLE_DISPATCHES} times without the listeners targeting its event class changing, and compiled again once
+ * it has stayed unchanged that long after a change. Until then, it is dispatched to by {@link EventBus}'s loop. Chains
+ * that change on nearly every dispatch are therefore never compiled, and {@link #prepare(Class[])} compiles the chains
+ * of the given classes right away. Dispatches with a {@link Target} other than {@link Target#all()}, or with inverted
+ * priority, are not compiled, and behave exactly as on {@link EventBus}.
+ * <p>
+ * Like {@link EventBus}, this event bus is not thread-safe.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @see DispatchNode
+ * @since 4.2.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class CompiledEventBus extends EventBus {
+
+    /**
+     * The type of {@link DispatchNode#dispatch(AbstractEventBus, Object, int)}.
+     */
+    private static final MethodType NODE_TYPE = MethodType.methodType(void.class, AbstractEventBus.class, Object.class, int.class);
+    /**
+     * The end of every compiled segment.
+     */
+    private static final MethodHandle END = MethodHandles.empty(NODE_TYPE);
+    /**
+     * The maximum number of listeners in a compiled segment, which bounds how deep a dispatch nests on the stack.
+     */
+    static final int SEGMENT_LENGTH = 64;
+    /**
+     * The number of dispatches a chain must stay unchanged for before it is compiled.
+     */
+    static final int STABLE_DISPATCHES = 16;
+
+    /**
+     * The compiled chain of each event class, along with the dispatch chain it was compiled from.
+     */
+    private final Map<Class<?>, CompiledChain> compiledChains;
+
+    /**
+     * Creates a new {@link CompiledEventBus} instance that compares listeners by
+     * {@linkplain RegistryMode#EQUALITY equality}.
+     */
+    public CompiledEventBus() {
+        this(RegistryMode.EQUALITY);
+    }
+
+    /**
+     * Creates a new {@link CompiledEventBus} instance with the given {@link RegistryMode}.
+     *
+     * @param registryMode how the event bus decides whether two listeners are the same registration
+     * @throws NullPointerException if the given {@link RegistryMode} is {@code null}
+     */
+    public CompiledEventBus(RegistryMode registryMode) {
+        super(registryMode);
+        this.compiledChains = new HashMap<>();
+    }
+
+    /**
+     * Invokes the given dispatch chain through its compiled form, compiling it first if it has now stayed unchanged for
+     * {@value #STABLE_DISPATCHES} dispatches. Falls back to {@link EventBus}'s loop for targeted or inverted dispatches,
+     * for chains that have not been compiled yet, or if the chain cannot be compiled.
+     *
+     * @param event          the event to be dispatched.
+     * @param chain          the listeners targeting the event's class, in priority order.
+     * @param target         the {@linkplain Target target listener} to invoke.
+     * @param invertPriority flag to dispatch the event in inverse listener priority.
+     */
+    @Override
+    protected void dispatchToChain(Object event, Listener[] chain, Target target, boolean invertPriority) {
+        if ((chain.length == 0) || invertPriority || (target != Target.all())) {
+            super.dispatchToChain(event, chain, target, invertPriority);
+            return;
+        }
+
+        Class<?> eventClass = event.getClass();
+        CompiledChain compiled = compiledChains.get(eventClass);
+        if ((compiled == null) || (compiled.chain != chain)) {
+            compiled = new CompiledChain(chain);
+            compiledChains.put(eventClass, compiled);
+        }
+        MethodHandle[] segments = compiled.segments;
+        if (segments == null) {
+            if (compiled.dispatches++ == STABLE_DISPATCHES) {
+                segments = compiled.compile();
+            }
+            if (segments == null) {
+                super.dispatchToChain(event, chain, target, false);
+                return;
+            }
+        }
+
+        int unregistered = unregistrations;
+        try {
+            segments[0].invokeExact((AbstractEventBus) this, event, unregistered);
+            for (int i = 1; i < segments.length; i++) {
+                if ((event instanceof IStatusEvent e) && e.isTerminated()) {
+                    return;
+                }
+                segments[i].invokeExact((AbstractEventBus) this, event, unregistered);
+            }
+        } catch (Throwable t) {
+            throw CompiledEventBus.<RuntimeException>rethrow(t);
+        }
+    }
+
+    /**
+     * Rethrows the given exception unchanged, so that a compiled chain propagates exceptions exactly like the loop of
+     * {@link EventBus}, including checked exceptions that a {@link Listener} throws undeclared.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T rethrow(Throwable t) throws T {
+        throw (T) t;
+    }
+
+    /**
+     * Resolves and caches the dispatch chain of each of the given event classes, and compiles it right away, so that
+     * neither the first dispatch of a prepared class, nor the first {@value #STABLE_DISPATCHES} dispatches, pay for
+     * defining its hidden classes.
+     *
+     * @param eventTypes the concrete classes of the events that will be dispatched.
+     * @return how long preparation took.
+     * @throws NullPointerException if {@code eventTypes} or any of its elements is {@code null}.
+     */
+    @Override
+    public Duration prepare(Class<?>... eventTypes) {
+        Objects.requireNonNull(eventTypes, "Cannot prepare a null array of event types.");
+        long start = System.nanoTime();
+        for (Class<?> eventType : eventTypes) {
+            Listener[] chain = getDispatchChain(Objects.requireNonNull(eventType, "Cannot prepare a null event type."));
+            if (chain.length != 0) {
+                CompiledChain compiled = new CompiledChain(chain);
+                compiled.compile();
+                compiledChains.put(eventType, compiled);
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * @param eventClass the concrete class of an event.
+     * @return {@code true} if the dispatch chain of {@code eventClass} is currently compiled.
+     */
+    boolean isCompiled(Class<?> eventClass) {
+        CompiledChain compiled = compiledChains.get(eventClass);
+        return (compiled != null) && (compiled.segments != null) && (compiled.chain == getDispatchChain(eventClass));
+    }
+
+    /**
+     * Splits the given chain into segments of at most {@link #SEGMENT_LENGTH} listeners, and defines a
+     * {@link DispatchNode} for each listener of a segment, last to first, each linked to the next.
+     *
+     * @param chain the listeners to compile, in priority order.
+     * @return a handle to the first node of each segment, or {@code null} if the chain cannot be compiled.
+     */
+    private static MethodHandle[] compile(Listener[] chain) {
+        byte[] template = Template.BYTES;
+        if (template == null) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle[] segments = new MethodHandle[((chain.length - 1) / SEGMENT_LENGTH) + 1];
+            for (int segment = 0; segment < segments.length; segment++) {
+                int from = segment * SEGMENT_LENGTH;
+                MethodHandle next = END;
+                for (int i = Math.min(from + SEGMENT_LENGTH, chain.length) - 1; i >= from; i--) {
+                    Listener listener = chain[i];
+                    Invokable invoker = (listener.getClass() == LambdaEventListener.class)
+                            ? ((LambdaEventListener) listener).getInvokable()
+                            : listener;
+                    MethodHandles.Lookup node = lookup.defineHiddenClassWithClassData(template, new Object[]{listener, invoker, next}, true);
+                    next = node.findStatic(node.lookupClass(), "dispatch", NODE_TYPE);
+                }
+                segments[segment] = next;
+            }
+            return segments;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * A dispatch chain, and its compiled form once it has been compiled.
+     */
+    private static final class CompiledChain {
+
+        private final Listener[] chain;
+        /**
+         * The number of times {@link #chain} has been dispatched to without being compiled.
+         */
+        private int dispatches;
+        /**
+         * The first node of each segment, or {@code null} if the chain has not been compiled, or cannot be.
+         */
+        private MethodHandle[] segments;
+
+        private CompiledChain(Listener[] chain) {
+            this.chain = chain;
+        }
+
+        /**
+         * Compiles the chain. A chain that cannot be compiled is not attempted again, since {@link #dispatches} only
+         * reaches {@link #STABLE_DISPATCHES} once.
+         *
+         * @return the first node of each segment, or {@code null} if the chain cannot be compiled.
+         */
+        private MethodHandle[] compile() {
+            dispatches = STABLE_DISPATCHES + 1;
+            segments = CompiledEventBus.compile(chain);
+            return segments;
+        }
+    }
+
+    /**
+     * Holds the class file of {@link DispatchNode}, read on first use.
+     */
+    private static final class Template {
+
+        private static final byte[] BYTES = read();
+
+        private static byte[] read() {
+            try (InputStream in = DispatchNode.class.getResourceAsStream(DispatchNode.class.getSimpleName() + ".class")) {
+                return (in == null) ? null : in.readAllBytes();
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.util.ListenerArrays;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A thread-safe implementation of {@link AbstractEventBus}.
+ * <p>
+ * Registered listeners are held in an immutable, priority-ordered snapshot that is published through an
+ * {@link AtomicReference}. {@link #register(Listener)} and {@link #unregister(Listener)} copy the current snapshot,
+ * apply their change, and atomically swap the copy in. Dispatching reads the current snapshot once and never locks,
+ * so an event is always delivered to a consistent set of listeners, even while other threads register or unregister
+ * listeners.
+ * <p>
+ * This trades registration cost for dispatch cost, and is best suited to buses that dispatch far more often than their
+ * listeners change.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @implNote Listeners with finite {@linkplain Listener#shouldPersist() persistence} are not synchronized by this bus.
+ * When such a listener is dispatched to concurrently, it may be invoked more times than it persists for.
+ * @since 4.2.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ConcurrentEventBus extends AbstractEventBus {
+
+    /**
+     * The currently published listener snapshot.
+     */
+    private final AtomicReference<Snapshot> snapshot;
+
+    /**
+     * Creates a new {@link ConcurrentEventBus} instance.
+     */
+    public ConcurrentEventBus() {
+        super();
+        this.snapshot = new AtomicReference<>(Snapshot.empty());
+    }
+
+    /**
+     * Registers a {@link Listener listener} to the event bus.
+     * <p>
+     * Dispatches that are already in progress are not affected.
+     *
+     * @param listener the {@link Listener} to be registered
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     */
+    @Override
+    public void register(Listener<?> listener) {
+        add(listener);
+    }
+
+    /**
+     * Registers a {@link Listener listener} to the event bus, and returns a handle that unregisters it.
+     *
+     * @param listener the {@link Listener} to be registered
+     * @return a {@link Registration} handle that unregisters the listener, which is inactive if an equal listener was
+     * already registered.
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     * @since 4.2.0
+     */
+    @Override
+    public Registration registerWithHandle(Listener<?> listener) {
+        return new ListenerRegistration(this, listener, add(listener));
+    }
+
+    /**
+     * Publishes a snapshot with the given listener added, unless an equal listener is already registered.
+     *
+     * @return {@code true} if the listener was added.
+     */
+    private boolean add(Listener<?> listener) {
+        Objects.requireNonNull(listener, "Cannot register null listener to event bus " + id + ".");
+
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            if (ListenerArrays.indexOf(current.listeners, listener) >= 0) {
+                return false;
+            }
+            next = current.with(listener);
+        } while (!snapshot.compareAndSet(current, next));
+        return true;
+    }
+
+    /**
+     * Unregisters a {@link Listener listener} from the event bus. The unregistered listener will no longer be invoked
+     * by events dispatched to the event bus.
+     * <p>
+     * A dispatch already in progress on the calling thread skips the listener if it has not reached it yet. Dispatches
+     * in progress on other threads may still invoke it.
+     *
+     * @param listener the {@link Listener} to be unregistered
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     */
+    @Override
+    public void unregister(Listener<?> listener) {
+        Objects.requireNonNull(listener, "Cannot unregister null listener from event bus " + id + ".");
+
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            int index = ListenerArrays.indexOf(current.listeners, listener);
+            if (index < 0) {
+                return;
+            }
+            next = current.without(index);
+        } while (!snapshot.compareAndSet(current, next));
+        unregistrations++;
+    }
+
+    /**
+     * Checks whether the given listener is part of the currently published snapshot.
+     *
+     * @param listener a listener of the chain being dispatched to.
+     * @return {@code true} if the listener is registered, {@code false} otherwise.
+     * @since 4.2.0
+     */
+    @Override
+    protected boolean isRegistered(Listener listener) {
+        return ListenerArrays.indexOf(snapshot.get().listeners, listener) >= 0;
+    }
+
+    /**
+     * Dispatches the given event to all valid registered listeners.
+     * <p>
+     * The {@code type} parameter serves as a filtering mechanism for listeners, allowing listeners to be selectively
+     * invoked based on their type for more targeted event handling.
+     *
+     * @param event          the event to be dispatched.
+     * @param target         the {@linkplain Target target listener} to invoke.
+     * @param invertPriority flag to dispatch the event in inverse listener priority.
+     * @return {@code true} if the given event is {@linkplain IStatusEvent suppressed or terminated} by any listener,
+     * {@code false} otherwise.
+     * @throws NullPointerException          if the given event is {@code null}
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     */
+    @Override
+    public boolean dispatch(Object event, Target target, boolean invertPriority) {
+        if (event == null) {
+            throw new NullPointerException("Cannot dispatch a null event to event bus " + id + ".");
+        }
+        if (target == null) {
+            throw new NullPointerException("Cannot dispatch an event with a null target to event bus " + id + ".");
+        }
+
+        if (isShutdown()) {
+            throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+        }
+        return deliver(event, target, invertPriority);
+    }
+
+    /**
+     * Runs the scheduled tasks of the given event, then invokes the listeners of the currently published snapshot.
+     * <p>
+     * Unlike {@link #dispatch(Object, Target, boolean)}, this method neither validates its arguments nor checks
+     * whether this event bus is shut down.
+     *
+     * @param event          the event to be delivered.
+     * @param target         the {@linkplain Target target listener} to invoke.
+     * @param invertPriority flag to deliver the event in inverse listener priority.
+     * @return {@code true} if the given event is {@linkplain IStatusEvent suppressed or terminated} by any listener,
+     * {@code false} otherwise.
+     */
+    protected boolean deliver(Object event, Target target, boolean invertPriority) {
+        taskExecutor.onEvent(event);
+
+        dispatchToEachListener(event, getDispatchChain(event.getClass()), target, invertPriority);
+
+        if (event instanceof IStatusEvent e) {
+            return e.isSuppressed() || e.isTerminated();
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any listener of the currently published snapshot would receive an event of the given class.
+     * <p>
+     * The answer is read from the snapshot's cached dispatch chain of {@code eventClass}, so after the first query for
+     * a class this is a single map lookup.
+     *
+     * @param eventClass the concrete class of the event.
+     * @return {@code true} if an event of {@code eventClass} would be delivered to at least one listener,
+     * {@code false} otherwise.
+     * @since 4.2.0
+     */
+    @Override
+    public boolean hasListeners(Class<?> eventClass) {
+        Objects.requireNonNull(eventClass, "Cannot query listeners of a null class on event bus " + id + ".");
+        return getDispatchChain(eventClass).length != 0;
+    }
+
+    /**
+     * Returns the dispatch chain for the given event class from the currently published snapshot.
+     *
+     * @param eventClass the concrete class of the event being dispatched.
+     * @return the listeners targeting {@code eventClass}, in priority order.
+     */
+    protected Listener[] getDispatchChain(Class<?> eventClass) {
+        return snapshot.get().chain(eventClass);
+    }
+
+    /**
+     * @return the number of dispatch chains cached by the currently published snapshot.
+     */
+    int getCachedChainCount() {
+        return snapshot.get().chains.size();
+    }
+
+    /**
+     * Retrieves the listeners currently registered to the event bus.
+     *
+     * @return an immutable, priority-ordered view of the currently published listener snapshot.
+     */
+    public List<Listener> getListeners() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot.get().listeners));
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentEventBus{" +
+                "id=" + id +
+                ", shutdown=" + shutdown +
+                ", listeners=" + getListeners() +
+                ", subscribers=" + subscribers +
+                ", taskExecutor=" + taskExecutor +
+                '}';
+    }
+
+    /**
+     * An immutable, priority-ordered set of listeners, along with the dispatch chains resolved from it.
+     * <p>
+     * The chain cache belongs to the snapshot, so a chain can never outlive the listener set it was resolved from.
+     */
+    private static final class Snapshot {
+
+        private final Listener[] listeners;
+        private final ConcurrentHashMap<Class<?>, Listener[]> chains;
+
+        private Snapshot(Listener[] listeners, ConcurrentHashMap<Class<?>, Listener[]> chains) {
+            this.listeners = listeners;
+            this.chains = chains;
+        }
+
+        /**
+         * Creates an empty snapshot. Each event bus starts from its own, since even an empty snapshot caches the
+         * (empty) chain of every class dispatched to it.
+         */
+        private static Snapshot empty() {
+            return new Snapshot(ListenerArrays.EMPTY, new ConcurrentHashMap<>());
+        }
+
+        /**
+         * Returns the dispatch chain for the given event class, resolving and caching it if necessary.
+         * <p>
+         * Concurrent resolutions of the same class may race, but always produce equal chains.
+         */
+        private Listener[] chain(Class<?> eventClass) {
+            Listener[] chain = chains.get(eventClass);
+            if (chain == null) {
+                chain = ListenerArrays.filter(listeners, eventClass);
+                Listener[] raced = chains.putIfAbsent(eventClass, chain);
+                if (raced != null) {
+                    chain = raced;
+                }
+            }
+            return chain;
+        }
+
+        private Snapshot with(Listener listener) {
+            return new Snapshot(ListenerArrays.insert(listeners, listener), retainUnaffected(listener));
+        }
+
+        private Snapshot without(int index) {
+            return new Snapshot(ListenerArrays.removeAt(listeners, index), retainUnaffected(listeners[index]));
+        }
+
+        /**
+         * Copies every cached chain that the given listener does not target into a new cache.
+         */
+        private ConcurrentHashMap<Class<?>, Listener[]> retainUnaffected(Listener<?> listener) {
+            Target listenerTarget = listener.getTarget();
+            ConcurrentHashMap<Class<?>, Listener[]> retained = new ConcurrentHashMap<>();
+            for (Map.Entry<Class<?>, Listener[]> entry : chains.entrySet()) {
+                if (!listenerTarget.targets(entry.getKey())) {
+                    retained.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return retained;
+        }
+    }
+}
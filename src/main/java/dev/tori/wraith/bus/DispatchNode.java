@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.listener.Invokable;
+import dev.tori.wraith.listener.Listener;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * The template of one node of a {@linkplain CompiledEventBus compiled dispatch chain}.
+ * <p>
+ * This class is never loaded as is. {@link CompiledEventBus} defines a hidden class from its bytes for every listener
+ * of a chain, with an array of {@code [listener, invoker, next]} as class data. Because the fields below are
+ * {@code static final}, the JIT treats the listener, its invoker, and the next node as constants, so it can inline
+ * every listener of the chain into a single compiled method, instead of calling them through one megamorphic call
+ * site.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class DispatchNode {
+
+    private static final Listener LISTENER;
+    /**
+     * The listener itself, or the invokable it wraps if calling that directly is equivalent.
+     */
+    private static final Invokable INVOKER;
+    /**
+     * Dispatches to the rest of the chain, with the same type as {@link #dispatch(AbstractEventBus, Object, int)}.
+     */
+    private static final MethodHandle NEXT;
+
+    static {
+        Object[] data;
+        try {
+            data = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, Object[].class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        LISTENER = (Listener) data[0];
+        INVOKER = (Invokable) data[1];
+        NEXT = (MethodHandle) data[2];
+    }
+
+    private DispatchNode() {
+        throw new AssertionError("No instances.");
+    }
+
+    /**
+     * Invokes this node's listener, unless it has expired or been unregistered, then the rest of the chain, unless the
+     * event was {@linkplain IStatusEvent#isTerminated() terminated}.
+     *
+     * @param bus             the event bus dispatching the event, which
+     *                        {@linkplain AbstractEventBus#expire(Listener) expires} listeners that should no longer
+     *                        persist.
+     * @param event           the event being dispatched.
+     * @param unregistrations the bus' {@link AbstractEventBus#unregistrations} count when the dispatch began.
+     */
+    static void dispatch(AbstractEventBus bus, Object event, int unregistrations) throws Throwable {
+        if (!LISTENER.isExpired() && !bus.wasUnregistered(LISTENER, unregistrations)) {
+            INVOKER.invoke(event);
+
+            if ((event instanceof IStatusEvent e) && e.isTerminated()) {
+                return;
+            }
+            if (!LISTENER.shouldPersist()) {
+                bus.expire(LISTENER);
+            }
+        }
+        NEXT.invokeExact(bus, event, unregistrations);
+    }
+}
\ No newline at end of file
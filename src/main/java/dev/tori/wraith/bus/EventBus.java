@@ -25,9 +25,20 @@ import dev.tori.wraith.event.Target;
 import dev.tori.wraith.event.status.IStatusEvent;
 import dev.tori.wraith.listener.Listener;
 import dev.tori.wraith.util.IndexedHashSet;
+import dev.tori.wraith.util.ListenerArrays;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * An implementation of {@link AbstractEventBus}.
@@ -41,20 +52,78 @@ import java.util.Objects;
 public class EventBus extends AbstractEventBus {
 
     /**
-     * An {@link IndexedHashSet} of {@link Listener listeners} registered to the event bus.
+     * Shared empty dispatch chain, used for event classes that no listener targets.
+     */
+    private static final Listener[] EMPTY_CHAIN = new Listener[0];
+    /**
+     * Expired listeners are left in place until they outnumber {@code 1 / 2^EXPIRED_SHIFT} of the registered
+     * listeners, so that compacting the listeners and chains is amortized over many expirations.
+     */
+    private static final int EXPIRED_SHIFT = 4;
+
+    /**
+     * An {@link IndexedHashSet} of {@link Listener listeners} registered to the event bus, kept in priority order.
+     * <p>
+     * Each listener is inserted at its priority position, found by binary search, after every listener of equal or
+     * higher priority. The set is therefore always sorted, and dispatch never has to sort it.
      */
     private final IndexedHashSet<Listener> listeners;
     /**
-     * Indicates whether the listeners in the event bus are sorted.
+     * A cache of resolved dispatch chains, keyed by concrete event class.
+     * <p>
+     * Each chain contains only the listeners whose {@link Target} matches the key class, in priority order. Chains are
+     * resolved lazily on the first dispatch of a class, updated in place whenever a listener targeting that class is
+     * registered, and filtered whenever {@linkplain #removeDeadListeners() dead listeners targeting that class are
+     * removed}.
      */
-    private boolean sorted = false;
+    private final Map<Class<?>, Listener[]> dispatchChains;
+    /**
+     * Incremented whenever the registered listeners change, so that a dispatch chain held across several events can
+     * be detected as stale.
+     */
+    private int modifications = 0;
+    /**
+     * {@linkplain Listener#isExpired() Expired} listeners that are still physically present, waiting to be removed by
+     * {@link #removeDeadListeners()}. Dispatch skips them, so they are only removed once there are enough of them, or
+     * before the registered listeners are next read or changed.
+     */
+    private final List<Listener> expiredListeners;
+    /**
+     * Unregistered listeners that are still physically present, waiting to be removed by
+     * {@link #removeDeadListeners()} before the registered listeners are next read.
+     */
+    private final Set<Listener> pendingRemovals;
+    /**
+     * How the event bus decides whether two {@link Listener listeners} are the same registration.
+     */
+    private final RegistryMode registryMode;
 
     /**
-     * Creates a new {@link EventBus} instance.
+     * Creates a new {@link EventBus} instance that compares listeners by {@linkplain RegistryMode#EQUALITY equality}.
      */
     public EventBus() {
+        this(RegistryMode.EQUALITY);
+    }
+
+    /**
+     * Creates a new {@link EventBus} instance with the given {@link RegistryMode}.
+     *
+     * @param registryMode how the event bus decides whether two listeners are the same registration
+     * @throws NullPointerException if the given {@link RegistryMode} is {@code null}
+     * @since 4.2.0
+     */
+    public EventBus(RegistryMode registryMode) {
         super();
-        this.listeners = new IndexedHashSet<>();
+        this.registryMode = Objects.requireNonNull(registryMode, "Cannot create event bus with null registry mode.");
+        if (registryMode == RegistryMode.IDENTITY) {
+            this.listeners = IndexedHashSet.identityBased();
+            this.pendingRemovals = Collections.newSetFromMap(new IdentityHashMap<>());
+        } else {
+            this.listeners = new IndexedHashSet<>();
+            this.pendingRemovals = new HashSet<>();
+        }
+        this.dispatchChains = new HashMap<>();
+        this.expiredListeners = new ArrayList<>();
     }
 
     /**
@@ -65,15 +134,57 @@ public class EventBus extends AbstractEventBus {
      */
     @Override
     public void register(Listener<?> listener) {
+        add(listener);
+    }
+
+    /**
+     * Registers a {@link Listener listener} to the event bus, and returns a handle that unregisters it.
+     *
+     * @param listener the {@link Listener} to be registered
+     * @return a {@link Registration} handle that unregisters the listener, which is inactive if an equal listener was
+     * already registered.
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     * @since 4.2.0
+     */
+    @Override
+    public Registration registerWithHandle(Listener<?> listener) {
+        return new ListenerRegistration(this, listener, add(listener));
+    }
+
+    /**
+     * Inserts the given listener in priority order, and into every cached dispatch chain it targets, unless an equal
+     * listener is already registered.
+     *
+     * @return {@code true} if the listener was added.
+     */
+    private boolean add(Listener<?> listener) {
         Objects.requireNonNull(listener, "Cannot register null listener to event bus " + id + ".");
 
-        listeners.add(listener);
-        sorted = false;
+        if (!pendingRemovals.isEmpty() || !expiredListeners.isEmpty()) {
+            removeDeadListeners();
+        }
+        if (!listeners.contains(listener)) {
+            listeners.add(ListenerArrays.insertionIndex(listeners, listener.getPriority()), listener);
+            modifications++;
+            if (!dispatchChains.isEmpty()) {
+                Target listenerTarget = listener.getTarget();
+                dispatchChains.replaceAll((Class<?> eventClass, Listener[] chain) -> listenerTarget.targets(eventClass)
+                        ? ListenerArrays.insert(chain, listener)
+                        : chain);
+            }
+            return true;
+        }
+        return false;
     }
 
     /**
      * Unregisters a {@link Listener listener} from the event bus. The unregistered listener will no longer be invoked
      * by events dispatched to the event bus.
+     * <p>
+     * The listener is only marked for removal, in constant time. Listeners marked this way are removed together, in
+     * one pass, before the registered listeners are next read, so unregistering {@code k} listeners costs a single
+     * {@code O(n)} pass rather than {@code k} of them. A dispatch that is already in progress skips the listener if it
+     * has not reached it yet.
      *
      * @param listener the {@link Listener} to be unregistered
      * @throws NullPointerException if the given {@link Listener} is {@code null}
@@ -82,7 +193,21 @@ public class EventBus extends AbstractEventBus {
     public void unregister(Listener<?> listener) {
         Objects.requireNonNull(listener, "Cannot unregister null listener from event bus " + id + ".");
 
-        listeners.removeIf(l -> l.equals(listener));
+        if (listeners.contains(listener) && pendingRemovals.add(listener)) {
+            unregistrations++;
+        }
+    }
+
+    /**
+     * Checks whether the given listener is still registered, and not waiting to be removed.
+     *
+     * @param listener a listener of the chain being dispatched to.
+     * @return {@code true} if the listener is registered, {@code false} otherwise.
+     * @since 4.2.0
+     */
+    @Override
+    protected boolean isRegistered(Listener listener) {
+        return listeners.contains(listener) && !pendingRemovals.contains(listener);
     }
 
     /**
@@ -101,25 +226,26 @@ public class EventBus extends AbstractEventBus {
      */
     @Override
     public boolean dispatch(Object event, Target target, boolean invertPriority) {
-        Objects.requireNonNull(event, "Cannot dispatch a null event to event bus " + id + ".");
-        Objects.requireNonNull(target, "Cannot dispatch an event with a null target to event bus " + id + ".");
+        if (event == null) {
+            throw new NullPointerException("Cannot dispatch a null event to event bus " + id + ".");
+        }
+        if (target == null) {
+            throw new NullPointerException("Cannot dispatch an event with a null target to event bus " + id + ".");
+        }
 
         if (isShutdown()) {
             throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
         } else {
             taskExecutor.onEvent(event);
 
-            if (!sorted) {
-                listeners.sort(Comparator.naturalOrder());
-                sorted = true;
+            if (!pendingRemovals.isEmpty()) {
+                removeDeadListeners();
             }
 
-            dispatchToEachListener(
-                    event,
-                    listeners,
-                    listener -> target.targets(listener.getClass()) && listener.getTarget().targets(event.getClass()),
-                    invertPriority
-            );
+            dispatchToChain(event, getDispatchChain(event.getClass()), target, invertPriority);
+            if (expiredListeners.size() > (listeners.size() >>> EXPIRED_SHIFT)) {
+                removeDeadListeners();
+            }
 
             if (event instanceof IStatusEvent e) {
                 return e.isSuppressed() || e.isTerminated();
@@ -128,22 +254,243 @@ public class EventBus extends AbstractEventBus {
         return false;
     }
 
+    /**
+     * Dispatches each of the given events to all valid registered listeners, in iteration order.
+     * <p>
+     * The batch is copied into an array once, then dispatched as by {@link #dispatchAll(Object[])}.
+     *
+     * @param events the events to be dispatched.
+     * @return the number of events that were {@linkplain IStatusEvent suppressed or terminated} by any listener.
+     * @throws NullPointerException          if {@code events} or any of its elements is {@code null}
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     */
+    @Override
+    public int dispatchAll(Collection<?> events) {
+        if (events == null) {
+            throw new NullPointerException("Cannot dispatch a null batch of events to event bus " + id + ".");
+        }
+        return dispatchAll(events.toArray());
+    }
+
+    /**
+     * Dispatches each of the given events to all valid registered listeners, in array order.
+     * <p>
+     * Validation happens once per batch, and consecutive events of the same class share a single dispatch chain
+     * lookup. Scheduled tasks still run for every event, exactly as if each event had been dispatched individually.
+     *
+     * @param events the events to be dispatched.
+     * @return the number of events that were {@linkplain IStatusEvent suppressed or terminated} by any listener.
+     * @throws NullPointerException          if {@code events} or any of its elements is {@code null}
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     */
+    @Override
+    public int dispatchAll(Object[] events) {
+        if (events == null) {
+            throw new NullPointerException("Cannot dispatch a null batch of events to event bus " + id + ".");
+        }
+        if (isShutdown()) {
+            throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+        }
+
+        Target target = Target.all();
+        Class<?> chainClass = null;
+        Listener[] chain = EMPTY_CHAIN;
+        int chainModifications = modifications;
+        int cancelled = 0;
+        for (int i = 0; i < events.length; i++) {
+            Object event = events[i];
+            if (event == null) {
+                throw new NullPointerException("Cannot dispatch a null event to event bus " + id + " (batch index " + i + ").");
+            }
+
+            taskExecutor.onEvent(event);
+
+            if (!pendingRemovals.isEmpty()) {
+                removeDeadListeners();
+            }
+            Class<?> eventClass = event.getClass();
+            if ((eventClass != chainClass) || (chainModifications != modifications)) {
+                chainClass = eventClass;
+                chain = getDispatchChain(eventClass);
+                chainModifications = modifications;
+            }
+            dispatchToChain(event, chain, target, false);
+
+            if ((event instanceof IStatusEvent e) && (e.isSuppressed() || e.isTerminated())) {
+                cancelled++;
+            }
+        }
+        if (expiredListeners.size() > (listeners.size() >>> EXPIRED_SHIFT)) {
+            removeDeadListeners();
+        }
+        return cancelled;
+    }
+
+    /**
+     * Invokes the listeners of a resolved dispatch chain, as by
+     * {@link #dispatchToEachListener(Object, Listener[], Target, boolean)}.
+     * <p>
+     * Subclasses may override this method to invoke the chain differently, for example through generated code, as
+     * long as listeners are invoked in the same order, with the same termination and persistence checks.
+     *
+     * @param event          the event to be dispatched.
+     * @param chain          the listeners targeting the event's class, in priority order.
+     * @param target         the {@linkplain Target target listener} to invoke.
+     * @param invertPriority flag to dispatch the event in inverse listener priority.
+     * @since 4.2.0
+     */
+    protected void dispatchToChain(Object event, Listener[] chain, Target target, boolean invertPriority) {
+        dispatchToEachListener(event, chain, target, invertPriority);
+    }
+
+    /**
+     * Marks an {@linkplain Listener#isExpired() expired} listener for removal. Dispatch skips expired listeners, so
+     * they are left in place until they outnumber a fraction of the registered listeners, and then removed together.
+     * Listeners that cannot report expiry are unregistered immediately.
+     *
+     * @param listener the listener whose {@link Listener#shouldPersist()} returned {@code false}.
+     * @since 4.2.0
+     */
+    @Override
+    protected void expire(Listener listener) {
+        if (listener.isExpired()) {
+            expiredListeners.add(listener);
+        } else {
+            unregister(listener);
+        }
+    }
+
+    /**
+     * Removes every {@linkplain Listener#isExpired() expired} or {@linkplain #unregister(Listener) unregistered}
+     * listener from the registered listeners, in one pass, and from the cached dispatch chains of the event classes
+     * their {@link Target targets} match. Chains of other classes are left untouched.
+     */
+    private void removeDeadListeners() {
+        modifications++;
+        Predicate<Listener> dead = pendingRemovals.isEmpty()
+                ? Listener::isExpired
+                : (Listener listener) -> listener.isExpired() || pendingRemovals.contains(listener);
+        listeners.removeIf(dead);
+        if (!dispatchChains.isEmpty()) {
+            for (Map.Entry<Class<?>, Listener[]> entry : dispatchChains.entrySet()) {
+                if (targetsAnyDead(entry.getKey())) {
+                    entry.setValue(ListenerArrays.removeIf(entry.getValue(), dead));
+                }
+            }
+        }
+        expiredListeners.clear();
+        pendingRemovals.clear();
+    }
+
+    /**
+     * @return {@code true} if any listener waiting to be removed targets the given event class.
+     */
+    private boolean targetsAnyDead(Class<?> eventClass) {
+        for (int i = 0; i < expiredListeners.size(); i++) {
+            if (expiredListeners.get(i).getTarget().targets(eventClass)) {
+                return true;
+            }
+        }
+        for (Listener listener : pendingRemovals) {
+            if (listener.getTarget().targets(eventClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any registered listener would receive an event of the given class.
+     * <p>
+     * The answer is read from the cached dispatch chain of {@code eventClass}, so after the first query for a class
+     * this is a single map lookup, plus skipping any expired listeners that have not been removed yet.
+     *
+     * @param eventClass the concrete class of the event.
+     * @return {@code true} if an event of {@code eventClass} would be delivered to at least one listener,
+     * {@code false} otherwise.
+     * @since 4.2.0
+     */
+    @Override
+    public boolean hasListeners(Class<?> eventClass) {
+        Objects.requireNonNull(eventClass, "Cannot query listeners of a null class on event bus " + id + ".");
+        for (Listener listener : getDispatchChain(eventClass)) {
+            if (!listener.isExpired()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the resolved dispatch chain for the given event class, resolving and caching it if necessary.
+     *
+     * @param eventClass the concrete class of the event being dispatched.
+     * @return the listeners targeting {@code eventClass}, in priority order, possibly including
+     * {@linkplain Listener#isExpired() expired} listeners that have not been removed yet.
+     * @since 4.2.0
+     */
+    protected Listener[] getDispatchChain(Class<?> eventClass) {
+        if (!pendingRemovals.isEmpty()) {
+            removeDeadListeners();
+        }
+        Listener[] chain = dispatchChains.get(eventClass);
+        if (chain == null) {
+            chain = resolveDispatchChain(eventClass);
+            dispatchChains.put(eventClass, chain);
+        }
+        return chain;
+    }
+
+    /**
+     * Filters the registered listeners down to those whose {@link Target} matches the given event class.
+     *
+     * @param eventClass the concrete class of the event being dispatched.
+     * @return a new array of the matching listeners, in priority order.
+     */
+    private Listener[] resolveDispatchChain(Class<?> eventClass) {
+        Listener[] chain = null;
+        int size = 0;
+        for (int i = 0; i < listeners.size(); i++) {
+            Listener listener = listeners.get(i);
+            if (listener.getTarget().targets(eventClass) && !listener.isExpired()) {
+                if (chain == null) {
+                    chain = new Listener[listeners.size() - i];
+                }
+                chain[size++] = listener;
+            }
+        }
+        return (chain == null) ? EMPTY_CHAIN : Arrays.copyOf(chain, size);
+    }
+
     /**
      * Retrieves the set of listeners currently registered to the event bus.
      *
      * @return an {@link IndexedHashSet} containing all registered {@link Listener listeners}.
+     * @apiNote Modifying the returned set directly bypasses this event bus' dispatch chain cache. Use
+     * {@link #register(Listener)} and {@link #unregister(Listener)} instead.
      */
     public IndexedHashSet<Listener> getListeners() {
+        if (!pendingRemovals.isEmpty() || !expiredListeners.isEmpty()) {
+            removeDeadListeners();
+        }
         return listeners;
     }
 
+    /**
+     * @return how this event bus decides whether two listeners are the same registration.
+     * @since 4.2.0
+     */
+    public RegistryMode getRegistryMode() {
+        return registryMode;
+    }
+
     /**
      * Checks if the listeners in the event bus are sorted.
      *
-     * @return {@code true} if the listeners are sorted, {@code false} otherwise.
+     * @return {@code true}, as listeners are kept in priority order as they are registered.
      */
     public boolean isSorted() {
-        return sorted;
+        return true;
     }
 
     @Override
@@ -151,10 +498,31 @@ public class EventBus extends AbstractEventBus {
         return "EventBus{" +
                 "id=" + id +
                 ", shutdown=" + shutdown +
-                ", listeners=" + listeners +
-                ", sorted=" + sorted +
+                ", registryMode=" + registryMode +
+                ", listeners=" + getListeners() +
                 ", subscribers=" + subscribers +
                 ", taskExecutor=" + taskExecutor +
                 '}';
     }
+
+    /**
+     * Determines how an {@link EventBus} decides whether two {@link Listener listeners} are the same registration.
+     *
+     * @author <a href="https://github.com/7orivorian">7orivorian</a>
+     * @since 4.2.0
+     */
+    public enum RegistryMode {
+        /**
+         * Listeners are compared with {@link Object#equals(Object) equals} and {@link Object#hashCode() hashCode}.
+         * Registering a listener equal to one that is already registered has no effect.
+         */
+        EQUALITY,
+        /**
+         * Listeners are compared by identity. Every distinct listener instance is a separate registration, even if
+         * it is structurally equal to another, and registering or unregistering never calls the listener's
+         * {@code equals} or {@code hashCode} methods. This suits buses holding large numbers of structurally
+         * identical listeners, or listeners whose {@code equals} is expensive.
+         */
+        IDENTITY
+    }
 }
\ No newline at end of file
@@ -23,10 +23,20 @@ package dev.tori.wraith.bus;
 
 import dev.tori.wraith.event.Target;
 import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.event.status.StatusEventPool;
 import dev.tori.wraith.listener.EventListener;
 import dev.tori.wraith.listener.Listener;
 import dev.tori.wraith.subscriber.ISubscriber;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 /**
  * An event bus that allows for the subscription, registration, and dispatching of events to listeners.
  *
@@ -65,6 +75,24 @@ public interface IEventBus {
      */
     void register(Listener<?> listener);
 
+    /**
+     * Registers the specified listener to this event bus, and returns a handle that unregisters it.
+     * <p>
+     * If an equal listener is already registered, nothing is registered, and the returned handle is
+     * {@linkplain Registration#isActive() inactive}, so that closing it cannot unregister the listener registered
+     * before.
+     *
+     * @param listener the {@link Listener} to be registered.
+     * @return a {@link Registration} handle that unregisters the listener.
+     * @implSpec The default implementation {@linkplain #register(Listener) registers} the listener and returns an
+     * active handle, since it cannot tell whether an equal listener was already registered.
+     * @since 4.2.0
+     */
+    default Registration registerWithHandle(Listener<?> listener) {
+        register(listener);
+        return new ListenerRegistration(this, listener, true);
+    }
+
     /**
      * Unregisters the specified listener from this event bus.
      *
@@ -117,6 +145,159 @@ public interface IEventBus {
      */
     boolean dispatch(Object event, Target target, boolean invertPriority);
 
+    /**
+     * Dispatches the event built by the given supplier, but only if at least one listener would receive an event of
+     * the given class. Otherwise, the supplier is never called, so expensive events cost nothing when nobody is
+     * listening.
+     * <p>
+     * Whether anyone is listening is decided by {@link #hasListeners(Class)} on {@code eventClass}, so
+     * {@code eventClass} should be the concrete class of the event the supplier builds.
+     *
+     * @param eventClass the concrete class of the event to dispatch.
+     * @param supplier   builds the event to dispatch.
+     * @param <E>        the type of the event.
+     * @return {@code true} if the event was built and {@linkplain IStatusEvent suppressed or terminated} by any
+     * listener, {@code false} otherwise.
+     * @throws NullPointerException if {@code eventClass} or {@code supplier} is {@code null}, or if the supplier
+     *                              returns {@code null}.
+     * @since 4.2.0
+     */
+    default <E> boolean dispatchLazily(Class<E> eventClass, Supplier<? extends E> supplier) {
+        Objects.requireNonNull(eventClass, "Cannot dispatch an event of a null class.");
+        Objects.requireNonNull(supplier, "Cannot dispatch an event from a null supplier.");
+        if (!hasListeners(eventClass)) {
+            return false;
+        }
+        return dispatch(Objects.requireNonNull(supplier.get(), "Cannot dispatch a null event."));
+    }
+
+    /**
+     * Checks whether any registered listener would receive an event of the given class, including listeners that
+     * target one of its supertypes with {@link Target.TargetingRule#CASCADE CASCADE}.
+     *
+     * @param eventClass the concrete class of the event.
+     * @return {@code true} if an event of {@code eventClass} would be delivered to at least one listener,
+     * {@code false} otherwise.
+     * @implSpec The default implementation returns {@code true}, so that event buses that do not override it still
+     * dispatch every event built by {@link #dispatchLazily(Class, Supplier)}.
+     * @since 4.2.0
+     */
+    default boolean hasListeners(Class<?> eventClass) {
+        Objects.requireNonNull(eventClass, "Cannot query listeners of a null class.");
+        return true;
+    }
+
+    /**
+     * Resolves and caches the dispatch plan of each of the given event classes ahead of time, so that the first
+     * dispatch of each class does not pay for matching listener targets against it.
+     * <p>
+     * Listener invokers are already generated when listeners are registered, so once this method returns, the first
+     * dispatch of a prepared class costs the same as any later one, apart from JIT compilation. Registering or
+     * unregistering a listener afterwards may cause the plans it affects to be resolved again; {@link EventBus}
+     * updates them in place instead.
+     *
+     * @param eventTypes the concrete classes of the events that will be dispatched.
+     * @return how long preparation took.
+     * @throws NullPointerException if {@code eventTypes} or any of its elements is {@code null}.
+     * @since 4.2.0
+     */
+    default Duration prepare(Class<?>... eventTypes) {
+        Objects.requireNonNull(eventTypes, "Cannot prepare a null array of event types.");
+        long start = System.nanoTime();
+        for (Class<?> eventType : eventTypes) {
+            hasListeners(Objects.requireNonNull(eventType, "Cannot prepare a null event type."));
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Runs {@link #prepare(Class[])} on the given executor.
+     * <p>
+     * Event buses that are not thread-safe, such as {@link EventBus}, must not be used by any other thread until the
+     * returned future completes.
+     *
+     * @param executor   the executor to prepare on.
+     * @param eventTypes the concrete classes of the events that will be dispatched.
+     * @return a future completed with how long preparation took, or exceptionally if preparation failed.
+     * @throws NullPointerException if {@code executor} or {@code eventTypes} is {@code null}.
+     * @since 4.2.0
+     */
+    default CompletableFuture<Duration> prepareAsync(Executor executor, Class<?>... eventTypes) {
+        Objects.requireNonNull(executor, "Cannot prepare on a null executor.");
+        Objects.requireNonNull(eventTypes, "Cannot prepare a null array of event types.");
+        Class<?>[] types = eventTypes.clone();
+        return CompletableFuture.supplyAsync(() -> prepare(types), executor);
+    }
+
+    /**
+     * Dispatches each of the specified events to all registered listeners, in iteration order.
+     * <p>
+     * Each event is dispatched exactly as if it had been passed to {@link #dispatch(Object)}; in particular,
+     * {@linkplain IStatusEvent terminating} one event does not affect the others.
+     *
+     * @param events the events to be dispatched.
+     * @return the number of events that were {@linkplain IStatusEvent suppressed or terminated} by any listener.
+     * @throws NullPointerException if {@code events} or any of its elements is {@code null}.
+     * @since 4.2.0
+     */
+    default int dispatchAll(Collection<?> events) {
+        Objects.requireNonNull(events, "Cannot dispatch a null batch of events.");
+        int cancelled = 0;
+        for (Object event : events) {
+            if (dispatch(event)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Dispatches each of the specified events to all registered listeners, in array order.
+     * <p>
+     * Each event is dispatched exactly as if it had been passed to {@link #dispatch(Object)}; in particular,
+     * {@linkplain IStatusEvent terminating} one event does not affect the others.
+     *
+     * @param events the events to be dispatched.
+     * @return the number of events that were {@linkplain IStatusEvent suppressed or terminated} by any listener.
+     * @throws NullPointerException if {@code events} or any of its elements is {@code null}.
+     * @since 4.2.0
+     */
+    default int dispatchAll(Object[] events) {
+        Objects.requireNonNull(events, "Cannot dispatch a null batch of events.");
+        int cancelled = 0;
+        for (Object event : events) {
+            if (dispatch(event)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Acquires an event of the specified class from the given pool, initializes it, dispatches it to all registered
+     * listeners, and releases it back to the pool.
+     * <p>
+     * Listeners must not keep references to the dispatched event; see {@link StatusEventPool}.
+     *
+     * @param pool        the pool to acquire the event from and release it to.
+     * @param type        the class of the event to dispatch.
+     * @param initializer initializes the acquired event before it is dispatched.
+     * @param <E>         the type of the event.
+     * @return {@code true} if the event was {@linkplain IStatusEvent suppressed or terminated} by any listener,
+     * {@code false} otherwise.
+     * @since 4.2.0
+     */
+    default <E extends StatusEvent> boolean dispatchPooled(StatusEventPool pool, Class<E> type, Consumer<? super E> initializer) {
+        Objects.requireNonNull(pool, "Cannot dispatch a pooled event without a pool.");
+        E event = pool.acquire(type);
+        try {
+            initializer.accept(event);
+            return dispatch(event);
+        } finally {
+            pool.release(event);
+        }
+    }
+
     /**
      * Shuts down this event bus, preventing future events from being dispatched.
      */
@@ -0,0 +1,528 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.subscriber.ISubscriber;
+import dev.tori.wraith.task.ScheduledTask;
+import dev.tori.wraith.task.TaskExecutor;
+import dev.tori.wraith.util.ListenerArrays;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A small-footprint implementation of {@link IEventBus}, for applications that keep many event buses alive at once,
+ * each with few listeners.
+ * <p>
+ * Unlike {@link AbstractEventBus} implementations, this event bus allocates nothing up front. Listeners are held in a
+ * single priority-ordered array, which starts out as a shared empty array. Subscribers are tracked in arrays that are
+ * only allocated when the first subscriber is subscribed, and the {@link TaskExecutor} is only created when the first
+ * task is {@linkplain #scheduleTask(ScheduledTask) scheduled}.
+ * <p>
+ * There is no dispatch chain cache. Each dispatch checks every registered listener's {@link Target} against the
+ * event's class, which is cheaper than a cache lookup for a handful of listeners, but grows linearly with their
+ * number. Buses with many listeners should use {@link EventBus} instead.
+ * <p>
+ * Registering or unregistering a listener replaces the listener array. A dispatch that is already in progress keeps
+ * iterating the array it started with, but skips listeners that have since been unregistered. This event bus is not
+ * thread-safe.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class LightweightEventBus implements IEventBus {
+
+    /**
+     * The amount of {@link LightweightEventBus} instances that have been created.
+     */
+    private static int instances = 0;
+
+    /**
+     * This event bus's id.
+     */
+    private final int id;
+    /**
+     * Indicates whether this event bus is shutdown.
+     */
+    private volatile boolean shutdown;
+    /**
+     * The registered listeners, in priority order.
+     */
+    private Listener[] listeners;
+    /**
+     * The subscribed {@link ISubscriber subscribers}, followed by unused slots, or {@code null} if none has ever been
+     * subscribed.
+     */
+    private ISubscriber[] subscribers;
+    /**
+     * The listeners registered when each of {@link #subscribers} was subscribed, at the same index.
+     */
+    private Listener[][] subscribedListeners;
+    /**
+     * The number of used slots in {@link #subscribers}.
+     */
+    private int subscriberCount;
+    /**
+     * The {@link TaskExecutor} of this event bus, or {@code null} if no task has ever been scheduled.
+     */
+    private TaskExecutor taskExecutor;
+
+    /**
+     * Creates a new {@link LightweightEventBus} instance.
+     */
+    public LightweightEventBus() {
+        this.id = instances++;
+        this.listeners = ListenerArrays.EMPTY;
+    }
+
+    /**
+     * Subscribes a {@link ISubscriber subscriber} to this event bus and registers all the subscriber's
+     * {@link Listener listeners}.
+     *
+     * @param subscriber the {@link ISubscriber} to be subscribed
+     * @throws NullPointerException if the given {@link ISubscriber} is {@code null}
+     * @see #register(Listener)
+     */
+    @Override
+    public void subscribe(ISubscriber subscriber) {
+        Objects.requireNonNull(subscriber, "Cannot subscribe null to event bus " + id + ".");
+
+        subscriber.linkToBus(this);
+
+        Collection<Listener<?>> subscriberListeners = subscriber.getListeners();
+        Listener[] registered = subscriberListeners.toArray(new Listener[0]);
+        for (Listener listener : registered) {
+            add(listener);
+        }
+
+        int index = indexOf(subscriber);
+        if (index < 0) {
+            if (subscribers == null) {
+                subscribers = new ISubscriber[2];
+                subscribedListeners = new Listener[2][];
+            } else if (subscriberCount == subscribers.length) {
+                subscribers = Arrays.copyOf(subscribers, subscriberCount * 2);
+                subscribedListeners = Arrays.copyOf(subscribedListeners, subscriberCount * 2);
+            }
+            index = subscriberCount++;
+            subscribers[index] = subscriber;
+        }
+        subscribedListeners[index] = registered;
+    }
+
+    /**
+     * Unsubscribes a {@link ISubscriber subscriber} from this event bus and unregisters all the subscriber's
+     * {@link Listener listeners}, both those registered when it was subscribed, and those it registered afterward.
+     *
+     * @param subscriber the {@link ISubscriber} to be unsubscribed
+     * @throws NullPointerException if the given {@link ISubscriber} is {@code null}
+     * @see #unregister(Listener)
+     */
+    @Override
+    public void unsubscribe(ISubscriber subscriber) {
+        Objects.requireNonNull(subscriber, "Cannot unsubscribe null from event bus " + id + ".");
+
+        Listener[] registered = null;
+        int index = indexOf(subscriber);
+        if (index >= 0) {
+            registered = subscribedListeners[index];
+            int last = --subscriberCount;
+            subscribers[index] = subscribers[last];
+            subscribedListeners[index] = subscribedListeners[last];
+            subscribers[last] = null;
+            subscribedListeners[last] = null;
+        }
+        subscriber.unlinkFromBus(this);
+
+        if (registered != null) {
+            for (Listener listener : registered) {
+                unregister(listener);
+            }
+        }
+        for (Listener<?> listener : subscriber.getListeners()) {
+            if ((registered == null) || !containsIdentical(registered, listener)) {
+                unregister(listener);
+            }
+        }
+    }
+
+    /**
+     * Registers a {@link Listener listener} to this event bus.
+     * <p>
+     * Registering a listener equal to one that is already registered has no effect.
+     *
+     * @param listener the {@link Listener} to be registered
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     */
+    @Override
+    public void register(Listener<?> listener) {
+        Objects.requireNonNull(listener, "Cannot register null listener to event bus " + id + ".");
+
+        add(listener);
+    }
+
+    /**
+     * Registers a {@link Listener listener} to this event bus, and returns a handle that unregisters it.
+     *
+     * @param listener the {@link Listener} to be registered
+     * @return a {@link Registration} handle that unregisters the listener, which is inactive if an equal listener was
+     * already registered.
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     */
+    @Override
+    public Registration registerWithHandle(Listener<?> listener) {
+        Objects.requireNonNull(listener, "Cannot register null listener to event bus " + id + ".");
+
+        return new ListenerRegistration(this, listener, add(listener));
+    }
+
+    /**
+     * Unregisters a {@link Listener listener} from this event bus. The unregistered listener will no longer be invoked
+     * by events dispatched to this event bus. A dispatch that is already in progress skips the listener if it has not
+     * reached it yet.
+     *
+     * @param listener the {@link Listener} to be unregistered
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     */
+    @Override
+    public void unregister(Listener<?> listener) {
+        Objects.requireNonNull(listener, "Cannot unregister null listener from event bus " + id + ".");
+
+        int index = ListenerArrays.indexOf(listeners, listener);
+        if (index >= 0) {
+            listeners = ListenerArrays.removeAt(listeners, index);
+        }
+    }
+
+    /**
+     * Convenience method to dispatch an event with no {@linkplain Target target listener}, and
+     * normal processing priority.
+     *
+     * @see #dispatch(Object, Target, boolean)
+     */
+    @Override
+    public boolean dispatch(Object event) {
+        return dispatch(event, Target.all(), false);
+    }
+
+    /**
+     * Convenience method to dispatch an event with an optional {@linkplain Target target listener} and
+     * normal processing priority.
+     *
+     * @see #dispatch(Object, Target, boolean)
+     */
+    @Override
+    public boolean dispatch(Object event, Target target) {
+        return dispatch(event, target, false);
+    }
+
+    /**
+     * Convenience method to dispatch an event with a universal {@linkplain Target target listener} and
+     * optional inverted processing priority.
+     *
+     * @see #dispatch(Object, Target, boolean)
+     */
+    @Override
+    public boolean dispatch(Object event, boolean invertPriority) {
+        return dispatch(event, Target.all(), invertPriority);
+    }
+
+    /**
+     * Dispatches the given event to all valid registered listeners.
+     * <p>
+     * The {@code type} parameter serves as a filtering mechanism for listeners, allowing listeners to be selectively
+     * invoked based on their type for more targeted event handling.
+     *
+     * @param event          the event to be dispatched.
+     * @param target         the {@linkplain Target target listener} to invoke.
+     * @param invertPriority flag to dispatch the event in inverse listener priority.
+     * @return {@code true} if the given event is {@linkplain IStatusEvent suppressed or terminated} by any listener,
+     * {@code false} otherwise.
+     * @throws NullPointerException          if the given event is {@code null}
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     */
+    @Override
+    public boolean dispatch(Object event, Target target, boolean invertPriority) {
+        if (event == null) {
+            throw new NullPointerException("Cannot dispatch a null event to event bus " + id + ".");
+        }
+        if (target == null) {
+            throw new NullPointerException("Cannot dispatch an event with a null target to event bus " + id + ".");
+        }
+
+        if (isShutdown()) {
+            throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+        } else {
+            if (taskExecutor != null) {
+                taskExecutor.onEvent(event);
+            }
+
+            Class<?> eventClass = event.getClass();
+            Listener[] snapshot = listeners;
+            if (invertPriority) {
+                for (int i = snapshot.length - 1; i >= 0; i--) {
+                    if (invoke(snapshot, snapshot[i], event, eventClass, target)) {
+                        break;
+                    }
+                }
+            } else {
+                for (int i = 0; i < snapshot.length; i++) {
+                    if (invoke(snapshot, snapshot[i], event, eventClass, target)) {
+                        break;
+                    }
+                }
+            }
+
+            if (event instanceof IStatusEvent e) {
+                return e.isSuppressed() || e.isTerminated();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Dispatches the event built by the given supplier, but only if at least one listener would receive an event of
+     * the given class, or a {@linkplain ScheduledTask scheduled task} is waiting for one. Otherwise, the supplier is
+     * never called.
+     *
+     * @param eventClass the concrete class of the event to dispatch.
+     * @param supplier   builds the event to dispatch.
+     * @param <E>        the type of the event.
+     * @return {@code true} if the event was built and {@linkplain IStatusEvent suppressed or terminated} by any
+     * listener, {@code false} otherwise.
+     * @throws NullPointerException          if {@code eventClass} or {@code supplier} is {@code null}, or if the
+     *                                       supplier returns {@code null}
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     */
+    @Override
+    public <E> boolean dispatchLazily(Class<E> eventClass, Supplier<? extends E> supplier) {
+        if (eventClass == null) {
+            throw new NullPointerException("Cannot dispatch an event of a null class to event bus " + id + ".");
+        }
+        if (supplier == null) {
+            throw new NullPointerException("Cannot dispatch an event from a null supplier to event bus " + id + ".");
+        }
+        if (isShutdown()) {
+            throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+        }
+        if (!hasListeners(eventClass) && ((taskExecutor == null) || !taskExecutor.hasTasks(eventClass))) {
+            return false;
+        }
+        return dispatch(supplier.get());
+    }
+
+    /**
+     * Checks whether any registered listener would receive an event of the given class.
+     * <p>
+     * Every registered listener's {@link Target} is checked, as on dispatch.
+     *
+     * @param eventClass the concrete class of the event.
+     * @return {@code true} if an event of {@code eventClass} would be delivered to at least one listener,
+     * {@code false} otherwise.
+     */
+    @Override
+    public boolean hasListeners(Class<?> eventClass) {
+        Objects.requireNonNull(eventClass, "Cannot query listeners of a null class on event bus " + id + ".");
+        for (Listener listener : listeners) {
+            if (listener.getTarget().targets(eventClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Schedules a task to be executed, creating this event bus' {@link TaskExecutor} if this is the first task.
+     *
+     * @param task The task to be executed.
+     * @see TaskExecutor#schedule(ScheduledTask)
+     * @see ScheduledTask
+     */
+    public void scheduleTask(ScheduledTask task) {
+        if (taskExecutor == null) {
+            taskExecutor = new TaskExecutor();
+        }
+        taskExecutor.schedule(task);
+    }
+
+    /**
+     * Clears all scheduled tasks, if any were ever scheduled.
+     *
+     * @see TaskExecutor#clear()
+     */
+    public void clearTaskExecutor() {
+        if (taskExecutor != null) {
+            taskExecutor.clear();
+        }
+    }
+
+    /**
+     * Shuts down this event bus, preventing future events from being dispatched.
+     *
+     * @implNote Shut-down event dispatchers cannot dispatch events, and throw {@link UnsupportedOperationException}
+     * when attempting to do so.
+     */
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    /**
+     * @return {@code true} if this event bus is shut down
+     * @implNote Shut-down event dispatchers cannot dispatch events, and throw {@link UnsupportedOperationException}
+     * when attempting to do so.
+     */
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * @return the {@code id} of this event bus
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the listeners currently registered to the event bus.
+     *
+     * @return an immutable, priority-ordered view of the currently registered listeners.
+     */
+    public List<Listener> getListeners() {
+        return Collections.unmodifiableList(Arrays.asList(listeners));
+    }
+
+    /**
+     * @return the {@link ISubscriber subscribers} currently subscribed to this event bus.
+     */
+    public List<ISubscriber> getSubscribers() {
+        if (subscriberCount == 0) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(subscribers, subscriberCount)));
+    }
+
+    /**
+     * Inserts the given listener in priority order, unless an equal listener is already registered.
+     *
+     * @return {@code true} if the listener was added.
+     */
+    private boolean add(Listener listener) {
+        if (ListenerArrays.indexOf(listeners, listener) < 0) {
+            listeners = ListenerArrays.insert(listeners, listener);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Invokes a single listener, if it matches both the event's class and the dispatch target, and has not been
+     * unregistered since the dispatch began.
+     *
+     * @param snapshot the listener array the dispatch iterates.
+     * @return {@code true} if the event was terminated, and no further listeners should be invoked.
+     */
+    private boolean invoke(Listener[] snapshot, Listener listener, Object event, Class<?> eventClass, Target target) {
+        if (!listener.getTarget().targets(eventClass) || !target.targets(listener.getClass()) || listener.isExpired()) {
+            return false;
+        }
+        if ((listeners != snapshot) && (ListenerArrays.indexOf(listeners, listener) < 0)) {
+            return false;
+        }
+
+        listener.invoke(event);
+
+        if ((event instanceof IStatusEvent e) && e.isTerminated()) {
+            return true;
+        }
+        if (!listener.shouldPersist()) {
+            unregister(listener);
+        }
+        return false;
+    }
+
+    /**
+     * @return the index of the given subscriber in {@link #subscribers}, or {@code -1} if it is not subscribed.
+     */
+    private int indexOf(ISubscriber subscriber) {
+        for (int i = 0; i < subscriberCount; i++) {
+            if (subscriber.equals(subscribers[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean containsIdentical(Listener[] listeners, Listener<?> listener) {
+        for (Listener registered : listeners) {
+            if (registered == listener) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if this event bus is equal to another object.
+     * <p>
+     * If the given object is a {@link LightweightEventBus}, it is only considered equal if {@code this.id == that.id}.
+     *
+     * @param obj the object to compare with
+     * @return {@code true} if the object is equal to this event bus, {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj == null) || (getClass() != obj.getClass())) {
+            return false;
+        }
+        LightweightEventBus that = (LightweightEventBus) obj;
+        return id == that.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "LightweightEventBus{" +
+                "id=" + id +
+                ", shutdown=" + shutdown +
+                ", listeners=" + getListeners() +
+                ", subscribers=" + getSubscribers() +
+                ", taskExecutor=" + taskExecutor +
+                '}';
+    }
+}
\ No newline at end of file
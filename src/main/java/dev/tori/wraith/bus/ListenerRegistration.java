@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.listener.Listener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The default {@link Registration}, which unregisters its listener from its event bus at most once.
+ * <p>
+ * The handle only records the listener, not where the event bus stores it, so unregistering through it costs the same
+ * as {@link IEventBus#unregister(Listener)}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+final class ListenerRegistration implements Registration {
+
+    private final IEventBus bus;
+    private final Listener<?> listener;
+    private final AtomicBoolean active;
+
+    /**
+     * @param bus      the event bus the listener was registered to.
+     * @param listener the registered listener.
+     * @param added    {@code false} if an equal listener was already registered, in which case the handle starts out
+     *                 inactive.
+     */
+    ListenerRegistration(IEventBus bus, Listener<?> listener, boolean added) {
+        this.bus = bus;
+        this.listener = listener;
+        this.active = new AtomicBoolean(added);
+    }
+
+    @Override
+    public Listener<?> getListener() {
+        return listener;
+    }
+
+    @Override
+    public boolean isActive() {
+        return active.get();
+    }
+
+    @Override
+    public void unregister() {
+        if (active.compareAndSet(true, false)) {
+            bus.unregister(listener);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerRegistration{" +
+                "listener=" + listener +
+                ", active=" + active.get() +
+                '}';
+    }
+}
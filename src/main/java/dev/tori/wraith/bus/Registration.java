@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.listener.Listener;
+
+/**
+ * A handle to a {@link Listener} registered to an {@link IEventBus}, returned by
+ * {@link IEventBus#registerWithHandle(Listener)}.
+ * <p>
+ * Unregistering through the handle is equivalent to {@link IEventBus#unregister(Listener)}, but is idempotent, and has
+ * no effect if an equal listener was already registered when the handle was created. It is not any cheaper: handles
+ * do not record where a listener is stored, so {@link EventBus}, for example, still removes it in an {@code O(n)}
+ * pass over its listeners and cached dispatch chains, shared by every listener unregistered before the next
+ * dispatch.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+public interface Registration extends AutoCloseable {
+
+    /**
+     * @return the registered listener.
+     */
+    Listener<?> getListener();
+
+    /**
+     * @return {@code true} if this handle has not been {@linkplain #unregister() unregistered} yet, and its listener
+     * was added when the handle was created.
+     */
+    boolean isActive();
+
+    /**
+     * Unregisters the listener from the event bus. Has no effect if this handle has already been unregistered.
+     */
+    void unregister();
+
+    /**
+     * Equivalent to {@link #unregister()}.
+     */
+    @Override
+    default void close() {
+        unregister();
+    }
+}
@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.Listener;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ConcurrentEventBus} with a preallocated ring of reusable event slots, for low-latency pipelines.
+ * <p>
+ * Instead of dispatching new event objects, producers {@linkplain #publish(BiConsumer, Object) publish} into the ring:
+ * each publication claims the next sequence without locking, fills the slot for that sequence in place through a
+ * translator, and makes it visible to consumers. One or more consumer threads, started by {@link #start()}, deliver
+ * every published slot to the registered listeners in priority order, exactly like
+ * {@link #dispatch(Object) dispatch}. With several consumers, sequences are partitioned between them; each slot is
+ * delivered once.
+ * <p>
+ * Once the ring is full, producers wait for consumers to catch up, and idle consumers wait for producers, according to
+ * the configured {@link WaitStrategy}. Publishing with a non-capturing translator allocates nothing.
+ * <p>
+ * Slots are reused, so translators must fully initialize every slot they are given, and listeners must not keep
+ * references to events after they return. The {@code dispatch} methods inherited from {@link ConcurrentEventBus}
+ * remain available, and deliver on the calling thread.
+ *
+ * @param <E> the type of the events held by the ring.
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+public class RingBufferEventBus<E> extends ConcurrentEventBus {
+
+    /**
+     * How producers claim sequences.
+     */
+    public enum ProducerType {
+        /**
+         * Only one thread ever publishes. Claiming is a plain increment.
+         */
+        SINGLE,
+        /**
+         * Any number of threads may publish concurrently. Claiming is an atomic increment.
+         */
+        MULTI
+    }
+
+    /**
+     * How producers and consumers wait for each other.
+     */
+    public enum WaitStrategy {
+        /**
+         * Spin continuously. Lowest latency, but occupies a core per waiting thread.
+         */
+        BUSY_SPIN {
+            @Override
+            void idle(int attempt) {
+                Thread.onSpinWait();
+            }
+        },
+        /**
+         * Spin briefly, then yield the processor between checks.
+         */
+        YIELD {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_ATTEMPTS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        },
+        /**
+         * Spin briefly, yield briefly, then park between checks. Highest latency, but nearly idle while waiting.
+         */
+        PARK {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_ATTEMPTS) {
+                    Thread.onSpinWait();
+                } else if (attempt < (SPIN_ATTEMPTS * 2)) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+        };
+
+        private static final int SPIN_ATTEMPTS = 100;
+        private static final long PARK_NANOS = 50_000L;
+
+        /**
+         * Waits once.
+         *
+         * @param attempt how many times the caller has already waited for the current condition.
+         */
+        abstract void idle(int attempt);
+    }
+
+    /**
+     * The target every slot is delivered with.
+     */
+    private static final Target ALL = Target.all();
+
+    private final Object[] slots;
+    private final int mask;
+    private final int indexShift;
+    private final ProducerType producerType;
+    private final WaitStrategy waitStrategy;
+    private final RingConsumer[] consumers;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * The next sequence to be claimed.
+     */
+    private final AtomicLong claimed;
+    /**
+     * The highest sequence published by a {@link ProducerType#SINGLE single} producer.
+     */
+    private final AtomicLong cursor;
+    /**
+     * The round each slot was last published in, for {@link ProducerType#MULTI multiple} producers.
+     */
+    private final AtomicIntegerArray published;
+    /**
+     * The lowest sequence whose claim was abandoned because this event bus was shut down while the ring was full.
+     * It, and possibly later sequences, will never be published.
+     */
+    private final AtomicLong abandoned;
+    /**
+     * A recent lower bound of every consumer's progress. Every sequence below it has been delivered.
+     */
+    private volatile long gate;
+    private volatile boolean started;
+
+    /**
+     * Creates a new multi-producer {@link RingBufferEventBus} with a single consumer and the
+     * {@link WaitStrategy#YIELD YIELD} wait strategy.
+     *
+     * @param capacity the number of slots in the ring. Must be a power of two.
+     * @param factory  creates the event held by each slot.
+     * @throws NullPointerException     if {@code factory} is {@code null}.
+     * @throws IllegalArgumentException if {@code capacity} is not a positive power of two.
+     */
+    public RingBufferEventBus(int capacity, Supplier<? extends E> factory) {
+        this(capacity, factory, ProducerType.MULTI, WaitStrategy.YIELD, 1, daemonThreadFactory());
+    }
+
+    /**
+     * Creates a new {@link RingBufferEventBus}.
+     *
+     * @param capacity      the number of slots in the ring. Must be a power of two, and at least {@code consumers}.
+     * @param factory       creates the event held by each slot.
+     * @param producerType  how producers claim sequences.
+     * @param waitStrategy  how producers and consumers wait for each other.
+     * @param consumers     the number of consumer threads.
+     * @param threadFactory creates the consumer threads.
+     * @throws NullPointerException     if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code capacity} is not a positive power of two, or {@code consumers} is
+     *                                  not in {@code [1, capacity]}.
+     */
+    public RingBufferEventBus(int capacity, Supplier<? extends E> factory, ProducerType producerType,
+                              WaitStrategy waitStrategy, int consumers, ThreadFactory threadFactory) {
+        super();
+        Objects.requireNonNull(factory, "factory must not be null");
+        Objects.requireNonNull(producerType, "producerType must not be null");
+        Objects.requireNonNull(waitStrategy, "waitStrategy must not be null");
+        Objects.requireNonNull(threadFactory, "threadFactory must not be null");
+        if ((capacity < 1) || (Integer.bitCount(capacity) != 1)) {
+            throw new IllegalArgumentException("capacity must be a positive power of two, was " + capacity);
+        }
+        if ((consumers < 1) || (consumers > capacity)) {
+            throw new IllegalArgumentException("consumers must be in [1, " + capacity + "], was " + consumers);
+        }
+
+        this.slots = new Object[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = Objects.requireNonNull(factory.get(), "factory must not create null events");
+        }
+        this.mask = capacity - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(capacity);
+        this.producerType = producerType;
+        this.waitStrategy = waitStrategy;
+        this.threadFactory = threadFactory;
+        this.claimed = new AtomicLong();
+        this.cursor = new AtomicLong(-1L);
+        this.abandoned = new AtomicLong(Long.MAX_VALUE);
+        this.published = (producerType == ProducerType.MULTI) ? newPublishedRounds(capacity) : null;
+        this.consumers = newConsumers(consumers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RingConsumer[] newConsumers(int count) {
+        RingConsumer[] result = (RingConsumer[]) new RingBufferEventBus<?>.RingConsumer[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new RingConsumer(i, count);
+        }
+        return result;
+    }
+
+    private static AtomicIntegerArray newPublishedRounds(int capacity) {
+        AtomicIntegerArray rounds = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            rounds.set(i, -1);
+        }
+        return rounds;
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "wraith-ring-consumer-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Starts the consumer threads of this event bus. Has no effect if they have already been started.
+     *
+     * @return this event bus.
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     */
+    public synchronized RingBufferEventBus<E> start() {
+        if (isShutdown()) {
+            throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+        }
+        if (!started) {
+            for (RingConsumer consumer : consumers) {
+                consumer.thread = threadFactory.newThread(consumer);
+                consumer.thread.start();
+            }
+            started = true;
+        }
+        return this;
+    }
+
+    /**
+     * Claims the next slot, fills it through the given translator, and publishes it to the consumers.
+     * <p>
+     * Blocks, according to the configured {@link WaitStrategy}, while the ring is full.
+     *
+     * @param translator initializes the claimed slot with {@code argument}.
+     * @param argument   passed to {@code translator}.
+     * @param <A>        the type of the argument.
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     */
+    @SuppressWarnings("unchecked")
+    public <A> void publish(BiConsumer<? super E, ? super A> translator, A argument) {
+        long sequence = claim();
+        try {
+            translator.accept((E) slots[(int) sequence & mask], argument);
+        } finally {
+            commit(sequence);
+        }
+    }
+
+    /**
+     * Claims the next slot, fills it through the given translator, and publishes it to the consumers.
+     * <p>
+     * Blocks, according to the configured {@link WaitStrategy}, while the ring is full.
+     *
+     * @param translator initializes the claimed slot.
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     */
+    @SuppressWarnings("unchecked")
+    public void publish(Consumer<? super E> translator) {
+        long sequence = claim();
+        try {
+            translator.accept((E) slots[(int) sequence & mask]);
+        } finally {
+            commit(sequence);
+        }
+    }
+
+    /**
+     * Claims the next sequence, waiting until its slot has been delivered in the previous round.
+     */
+    private long claim() {
+        if (isShutdown()) {
+            throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+        }
+
+        long sequence;
+        if (producerType == ProducerType.SINGLE) {
+            sequence = claimed.get();
+            claimed.lazySet(sequence + 1);
+        } else {
+            sequence = claimed.getAndIncrement();
+        }
+
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint >= gate) {
+            int attempt = 0;
+            long minimum;
+            while (wrapPoint >= (minimum = minimumProgress())) {
+                if (isShutdown()) {
+                    abandoned.accumulateAndGet(sequence, Math::min);
+                    throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+                }
+                waitStrategy.idle(attempt++);
+            }
+            gate = minimum;
+        }
+        return sequence;
+    }
+
+    private void commit(long sequence) {
+        if (producerType == ProducerType.SINGLE) {
+            cursor.lazySet(sequence);
+        } else {
+            published.lazySet((int) sequence & mask, (int) (sequence >>> indexShift));
+        }
+    }
+
+    private boolean isPublished(long sequence) {
+        if (producerType == ProducerType.SINGLE) {
+            return cursor.get() >= sequence;
+        }
+        return published.get((int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    private long minimumProgress() {
+        long minimum = Long.MAX_VALUE;
+        for (RingConsumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.next);
+        }
+        return minimum;
+    }
+
+    /**
+     * Shuts down this event bus, preventing future events from being dispatched or published.
+     * <p>
+     * Consumers deliver every slot that was published before this call, then terminate. Slots published concurrently
+     * with this call may or may not be delivered, and producers still waiting for a free slot give up.
+     */
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        for (RingConsumer consumer : consumers) {
+            Thread thread = consumer.thread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    /**
+     * Waits for the consumer threads to terminate after {@link #shutdown()}.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit    the unit of {@code timeout}.
+     * @return {@code true} if every consumer thread has terminated.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (RingConsumer consumer : consumers) {
+            Thread thread = consumer.thread;
+            if (thread != null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0L) {
+                    TimeUnit.NANOSECONDS.timedJoin(thread, remaining);
+                }
+                if (thread.isAlive()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of slots in the ring.
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * @return how producers claim sequences.
+     */
+    public ProducerType getProducerType() {
+        return producerType;
+    }
+
+    /**
+     * @return how producers and consumers wait for each other.
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    @Override
+    public String toString() {
+        return "RingBufferEventBus{" +
+                "id=" + id +
+                ", shutdown=" + shutdown +
+                ", capacity=" + slots.length +
+                ", producerType=" + producerType +
+                ", waitStrategy=" + waitStrategy +
+                ", consumers=" + consumers.length +
+                ", started=" + started +
+                ", listeners=" + getListeners() +
+                ", subscribers=" + subscribers +
+                ", taskExecutor=" + taskExecutor +
+                '}';
+    }
+
+    /**
+     * Delivers every {@code stride}-th sequence, starting at {@code first}, to the registered {@link Listener listeners}.
+     */
+    private final class RingConsumer implements Runnable {
+
+        private final int stride;
+        /**
+         * The next sequence this consumer will deliver. Every earlier sequence of this consumer has been delivered.
+         */
+        private volatile long next;
+        private volatile Thread thread;
+
+        private RingConsumer(int first, int stride) {
+            this.stride = stride;
+            this.next = first;
+        }
+
+        @Override
+        public void run() {
+            long sequence = next;
+            while (true) {
+                int attempt = 0;
+                while (!isPublished(sequence)) {
+                    if (isShutdown() && ((sequence >= claimed.get()) || (sequence >= abandoned.get()))
+                            && !isPublished(sequence)) {
+                        return;
+                    }
+                    waitStrategy.idle(attempt++);
+                }
+
+                try {
+                    deliver(slots[(int) sequence & mask], ALL, false);
+                } catch (Throwable t) {
+                    Thread current = Thread.currentThread();
+                    current.getUncaughtExceptionHandler().uncaughtException(current, t);
+                }
+
+                sequence += stride;
+                next = sequence;
+            }
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.util.ListenerArrays;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe implementation of {@link AbstractEventBus} that stores its listeners in per-{@link Target} stripes.
+ * <p>
+ * Each distinct listener {@link Target} owns a stripe with its own lock and its own copy-on-write listener array.
+ * Registering or unregistering a listener only locks and copies the stripe for that listener's target, so
+ * registration churn on one event type does not contend with registration on unrelated types.
+ * <p>
+ * Dispatching never locks. Each event class is resolved into a dispatch plan, which records the stripes matching the
+ * class and the exact listener arrays its chain was merged from. A plan is reused for as long as none of its stripes
+ * have changed, so registration churn on one event type does not invalidate the plans of unrelated types either.
+ * <p>
+ * Striping is not free for dispatch. Validating a plan costs more than reading a single listener array, and on a
+ * single CPU, where registering threads never run alongside dispatching ones, {@code RegistrationContentionBenchmark}
+ * measured striped dispatch at about half the throughput of an {@link EventBus} behind a single lock (1.66 against
+ * 3.23 ops/µs). Striping only pays off when registration and dispatch actually run in parallel, which has not been
+ * measured yet; prefer {@link ConcurrentEventBus} or a locked {@link EventBus} when registration is rare.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @implNote Listeners with finite {@linkplain Listener#shouldPersist() persistence} are not synchronized by this bus.
+ * When such a listener is dispatched to concurrently, it may be invoked more times than it persists for.
+ * @since 4.2.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class StripedEventBus extends AbstractEventBus {
+
+    /**
+     * Orders entries by descending priority, then by registration order.
+     */
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+            .comparingInt((Entry entry) -> -entry.listener.getPriority())
+            .thenComparingLong(entry -> entry.sequence);
+
+    /**
+     * The stripes of this event bus, keyed by listener {@link Target}. Stripes are never removed.
+     */
+    private final ConcurrentHashMap<Target, Stripe> stripes;
+    /**
+     * Incremented whenever a stripe is created, which invalidates the stripe selection of every dispatch plan.
+     */
+    private final AtomicInteger stripeGeneration;
+    /**
+     * The resolved dispatch plans of this event bus, keyed by concrete event class.
+     */
+    private final ConcurrentHashMap<Class<?>, Plan> plans;
+    /**
+     * Source of registration sequence numbers, used to keep registration order between listeners of equal priority.
+     */
+    private final AtomicLong sequence;
+
+    /**
+     * Creates a new {@link StripedEventBus} instance.
+     */
+    public StripedEventBus() {
+        super();
+        this.stripes = new ConcurrentHashMap<>();
+        this.stripeGeneration = new AtomicInteger();
+        this.plans = new ConcurrentHashMap<>();
+        this.sequence = new AtomicLong();
+    }
+
+    /**
+     * Registers a {@link Listener listener} to the event bus.
+     * <p>
+     * Only the stripe of the listener's {@link Target} is locked.
+     *
+     * @param listener the {@link Listener} to be registered
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     */
+    @Override
+    public void register(Listener<?> listener) {
+        add(listener);
+    }
+
+    /**
+     * Registers a {@link Listener listener} to the event bus, and returns a handle that unregisters it.
+     * <p>
+     * Only the stripe of the listener's {@link Target} is locked.
+     *
+     * @param listener the {@link Listener} to be registered
+     * @return a {@link Registration} handle that unregisters the listener, which is inactive if an equal listener was
+     * already registered.
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     * @since 4.2.0
+     */
+    @Override
+    public Registration registerWithHandle(Listener<?> listener) {
+        return new ListenerRegistration(this, listener, add(listener));
+    }
+
+    /**
+     * Adds the given listener to the stripe of its {@link Target}, creating the stripe if necessary.
+     *
+     * @return {@code true} if the listener was added, {@code false} if an equal listener was already registered.
+     */
+    private boolean add(Listener<?> listener) {
+        Objects.requireNonNull(listener, "Cannot register null listener to event bus " + id + ".");
+
+        Stripe stripe = stripes.get(listener.getTarget());
+        if (stripe == null) {
+            stripe = stripes.computeIfAbsent(listener.getTarget(), Stripe::new);
+            stripeGeneration.incrementAndGet();
+        }
+        return stripe.add(listener, sequence);
+    }
+
+    /**
+     * Unregisters a {@link Listener listener} from the event bus. The unregistered listener will no longer be invoked
+     * by events dispatched to the event bus.
+     * <p>
+     * Only the stripe of the listener's {@link Target} is locked.
+     *
+     * @param listener the {@link Listener} to be unregistered
+     * @throws NullPointerException if the given {@link Listener} is {@code null}
+     */
+    @Override
+    public void unregister(Listener<?> listener) {
+        Objects.requireNonNull(listener, "Cannot unregister null listener from event bus " + id + ".");
+
+        Stripe stripe = stripes.get(listener.getTarget());
+        if ((stripe != null) && stripe.remove(listener)) {
+            unregistrations++;
+        }
+    }
+
+    /**
+     * Checks whether the given listener is registered to the stripe of its {@link Target}.
+     *
+     * @param listener a listener of the chain being dispatched to.
+     * @return {@code true} if the listener is registered, {@code false} otherwise.
+     * @since 4.2.0
+     */
+    @Override
+    protected boolean isRegistered(Listener listener) {
+        Stripe stripe = stripes.get(listener.getTarget());
+        return (stripe != null) && (stripe.indexOf(listener) >= 0);
+    }
+
+    /**
+     * Dispatches the given event to all valid registered listeners.
+     * <p>
+     * The {@code type} parameter serves as a filtering mechanism for listeners, allowing listeners to be selectively
+     * invoked based on their type for more targeted event handling.
+     *
+     * @param event          the event to be dispatched.
+     * @param target         the {@linkplain Target target listener} to invoke.
+     * @param invertPriority flag to dispatch the event in inverse listener priority.
+     * @return {@code true} if the given event is {@linkplain IStatusEvent suppressed or terminated} by any listener,
+     * {@code false} otherwise.
+     * @throws NullPointerException          if the given event is {@code null}
+     * @throws UnsupportedOperationException if this event bus is {@link #shutdown}
+     */
+    @Override
+    public boolean dispatch(Object event, Target target, boolean invertPriority) {
+        if (event == null) {
+            throw new NullPointerException("Cannot dispatch a null event to event bus " + id + ".");
+        }
+        if (target == null) {
+            throw new NullPointerException("Cannot dispatch an event with a null target to event bus " + id + ".");
+        }
+
+        if (isShutdown()) {
+            throw new UnsupportedOperationException("Event bus " + id + " is shutdown!");
+        } else {
+            taskExecutor.onEvent(event);
+
+            dispatchToEachListener(event, getPlan(event.getClass()).chain, target, invertPriority);
+
+            if (event instanceof IStatusEvent e) {
+                return e.isSuppressed() || e.isTerminated();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any registered listener would receive an event of the given class.
+     * <p>
+     * The answer is read from the cached dispatch plan of {@code eventClass}, so after the first query for a class
+     * this is a map lookup plus a check that none of the plan's stripes have changed.
+     *
+     * @param eventClass the concrete class of the event.
+     * @return {@code true} if an event of {@code eventClass} would be delivered to at least one listener,
+     * {@code false} otherwise.
+     * @since 4.2.0
+     */
+    @Override
+    public boolean hasListeners(Class<?> eventClass) {
+        Objects.requireNonNull(eventClass, "Cannot query listeners of a null class on event bus " + id + ".");
+        return getPlan(eventClass).chain.length != 0;
+    }
+
+    /**
+     * Returns a valid dispatch plan for the given event class, re-resolving it if any of its stripes have changed.
+     * <p>
+     * Concurrent resolutions of the same class may race, but always produce equivalent plans.
+     *
+     * @param eventClass the concrete class of the event being dispatched.
+     * @return a dispatch plan that reflects the current state of every stripe matching {@code eventClass}.
+     */
+    private Plan getPlan(Class<?> eventClass) {
+        Plan plan = plans.get(eventClass);
+        int generation = stripeGeneration.get();
+        if ((plan == null) || !plan.isValid(generation)) {
+            Stripe[] matching = ((plan != null) && (plan.generation == generation))
+                    ? plan.stripes
+                    : matchingStripes(eventClass);
+            plan = new Plan(generation, matching);
+            plans.put(eventClass, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Selects every stripe whose {@link Target} matches the given event class.
+     */
+    private Stripe[] matchingStripes(Class<?> eventClass) {
+        List<Stripe> matching = new ArrayList<>();
+        for (Stripe stripe : stripes.values()) {
+            if (stripe.target.targets(eventClass)) {
+                matching.add(stripe);
+            }
+        }
+        return matching.toArray(new Stripe[0]);
+    }
+
+    /**
+     * Retrieves the listeners currently registered to the event bus.
+     *
+     * @return an immutable, priority-ordered list of every listener registered to this event bus.
+     */
+    public List<Listener> getListeners() {
+        List<Entry> entries = new ArrayList<>();
+        for (Stripe stripe : stripes.values()) {
+            Collections.addAll(entries, stripe.entries);
+        }
+        entries.sort(ENTRY_ORDER);
+
+        List<Listener> listeners = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            listeners.add(entry.listener);
+        }
+        return Collections.unmodifiableList(listeners);
+    }
+
+    @Override
+    public String toString() {
+        return "StripedEventBus{" +
+                "id=" + id +
+                ", shutdown=" + shutdown +
+                ", stripes=" + stripes.size() +
+                ", listeners=" + getListeners() +
+                ", subscribers=" + subscribers +
+                ", taskExecutor=" + taskExecutor +
+                '}';
+    }
+
+    /**
+     * A registered listener and the sequence number it was registered with.
+     */
+    private static final class Entry {
+
+        private static final Entry[] EMPTY = new Entry[0];
+
+        private final Listener listener;
+        private final long sequence;
+
+        private Entry(Listener listener, long sequence) {
+            this.listener = listener;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * The listeners sharing a single {@link Target}.
+     * <p>
+     * Writers synchronize on the stripe and publish a new, priority-ordered entry array. Readers only read the
+     * volatile {@link #entries} reference.
+     */
+    private static final class Stripe {
+
+        private final Target target;
+        private volatile Entry[] entries;
+
+        private Stripe(Target target) {
+            this.target = target;
+            this.entries = Entry.EMPTY;
+        }
+
+        private synchronized boolean add(Listener listener, AtomicLong sequence) {
+            Entry[] current = entries;
+            int insertAt = current.length;
+            for (int i = 0; i < current.length; i++) {
+                Listener existing = current[i].listener;
+                if (existing.equals(listener)) {
+                    return false;
+                }
+                if ((insertAt == current.length) && (existing.getPriority() < listener.getPriority())) {
+                    insertAt = i;
+                }
+            }
+
+            Entry[] next = new Entry[current.length + 1];
+            System.arraycopy(current, 0, next, 0, insertAt);
+            next[insertAt] = new Entry(listener, sequence.getAndIncrement());
+            System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+            entries = next;
+            return true;
+        }
+
+        private synchronized boolean remove(Listener listener) {
+            Entry[] current = entries;
+            int i = indexOf(current, listener);
+            if (i < 0) {
+                return false;
+            }
+            Entry[] next = new Entry[current.length - 1];
+            System.arraycopy(current, 0, next, 0, i);
+            System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+            entries = next;
+            return true;
+        }
+
+        private int indexOf(Listener listener) {
+            return indexOf(entries, listener);
+        }
+
+        private static int indexOf(Entry[] entries, Listener listener) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].listener.equals(listener)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A resolved dispatch chain, along with the stripe state it was resolved from.
+     */
+    private static final class Plan {
+
+        /**
+         * The stripe generation this plan's stripe selection was made in.
+         */
+        private final int generation;
+        /**
+         * The stripes matching this plan's event class.
+         */
+        private final Stripe[] stripes;
+        /**
+         * The entry arrays of {@link #stripes} at the time this plan was resolved.
+         */
+        private final Entry[][] sources;
+        /**
+         * The priority-ordered listeners of every stripe in {@link #stripes}.
+         */
+        private final Listener[] chain;
+
+        private Plan(int generation, Stripe[] stripes) {
+            this.generation = generation;
+            this.stripes = stripes;
+            this.sources = new Entry[stripes.length][];
+
+            int size = 0;
+            for (int i = 0; i < stripes.length; i++) {
+                sources[i] = stripes[i].entries;
+                size += sources[i].length;
+            }
+            this.chain = merge(sources, size);
+        }
+
+        /**
+         * Checks that no stripe has been created, and none of this plan's stripes have changed, since it was resolved.
+         */
+        private boolean isValid(int currentGeneration) {
+            if (generation != currentGeneration) {
+                return false;
+            }
+            for (int i = 0; i < stripes.length; i++) {
+                if (stripes[i].entries != sources[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Listener[] merge(Entry[][] sources, int size) {
+            if (size == 0) {
+                return ListenerArrays.EMPTY;
+            }
+            Listener[] chain = new Listener[size];
+            if (sources.length == 1) {
+                Entry[] source = sources[0];
+                for (int i = 0; i < size; i++) {
+                    chain[i] = source[i].listener;
+                }
+                return chain;
+            }
+
+            Entry[] merged = new Entry[size];
+            int offset = 0;
+            for (Entry[] source : sources) {
+                System.arraycopy(source, 0, merged, offset, source.length);
+                offset += source.length;
+            }
+            Arrays.sort(merged, ENTRY_ORDER);
+            for (int i = 0; i < size; i++) {
+                chain[i] = merged[i].listener;
+            }
+            return chain;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.listener.Listener;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * An {@link AsyncEventBus} that delivers events on virtual threads, for listeners that block on I/O.
+ * <p>
+ * Two {@linkplain Mode modes} are available:
+ * <ul>
+ * <li>{@link Mode#PER_EVENT PER_EVENT} (the default): each event is delivered on its own virtual thread, which invokes
+ * the event's listeners one after another in priority order.</li>
+ * <li>{@link Mode#PER_LISTENER PER_LISTENER}: listeners of equal priority are invoked concurrently, each on its own
+ * virtual thread. Priority levels are still delivered in order: every listener of a priority level finishes, and its
+ * effects on the event happen-before, any listener of the next level starts. An event terminated by any listener of a
+ * level is not delivered to the next level.</li>
+ * </ul>
+ * Virtual threads require Java 21. On older runtimes this event bus falls back to cached daemon platform threads,
+ * with identical semantics; see {@link #isVirtual()}. In either case, idle threads never keep the JVM alive, so this
+ * event bus needs no cleanup beyond {@link #shutdown()}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class VirtualThreadEventBus extends AsyncEventBus {
+
+    /**
+     * How a {@link VirtualThreadEventBus} spreads the delivery of an event across threads.
+     */
+    public enum Mode {
+        /**
+         * Each event is delivered on its own thread.
+         */
+        PER_EVENT,
+        /**
+         * Each listener of a priority level is invoked on its own thread.
+         */
+        PER_LISTENER
+    }
+
+    private final Mode mode;
+
+    /**
+     * Creates a new unordered {@link VirtualThreadEventBus} that delivers each event on its own virtual thread.
+     */
+    public VirtualThreadEventBus() {
+        this(Mode.PER_EVENT, false, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link VirtualThreadEventBus}.
+     *
+     * @param mode     how the delivery of an event is spread across virtual threads.
+     * @param fifo     {@code true} to deliver each producer thread's events in the order they were dispatched.
+     * @param capacity the maximum amount of pending events, per producer thread if {@code fifo} is {@code true}.
+     * @throws NullPointerException     if {@code mode} is {@code null}.
+     * @throws IllegalArgumentException if {@code capacity < 1}.
+     */
+    public VirtualThreadEventBus(Mode mode, boolean fifo, int capacity) {
+        super(VirtualThreads.newThreadPerTaskExecutor("wraith-dispatch-"), fifo, capacity);
+        this.mode = Objects.requireNonNull(mode, "mode must not be null");
+    }
+
+    /**
+     * @return {@code true} if this runtime supports virtual threads, {@code false} if {@link VirtualThreadEventBus}
+     * falls back to platform threads.
+     */
+    public static boolean isVirtual() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * @return how the delivery of an event is spread across threads.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    protected boolean deliver(Object event, Target target, boolean invertPriority) {
+        if (mode == Mode.PER_EVENT) {
+            return super.deliver(event, target, invertPriority);
+        }
+
+        taskExecutor.onEvent(event);
+
+        Listener[] chain = getDispatchChain(event.getClass());
+        int unregistered = unregistrations;
+        int step = invertPriority ? -1 : 1;
+        int start = invertPriority ? chain.length - 1 : 0;
+        for (int i = start; (i >= 0) && (i < chain.length); ) {
+            int end = i;
+            while (((end + step) >= 0) && ((end + step) < chain.length)
+                    && (chain[end + step].getPriority() == chain[i].getPriority())) {
+                end += step;
+            }
+
+            invokeLevel(event, chain, Math.min(i, end), Math.max(i, end), target, unregistered);
+            if ((event instanceof IStatusEvent e) && e.isTerminated()) {
+                break;
+            }
+            i = end + step;
+        }
+
+        if (event instanceof IStatusEvent e) {
+            return e.isSuppressed() || e.isTerminated();
+        }
+        return false;
+    }
+
+    /**
+     * Concurrently invokes every targeted, unexpired listener in {@code chain[from..to]} that has not been unregistered
+     * since the dispatch began, and waits for all of them to finish.
+     * <p>
+     * The last such listener of the level is invoked on the calling thread. If it throws, the failures of the forked
+     * listeners are {@linkplain Throwable#addSuppressed(Throwable) suppressed} by its exception; otherwise the first
+     * forked failure is thrown, suppressing the others. Listeners that ran only lose a persistence count if the event
+     * was not terminated by the level, as on the other event buses.
+     */
+    private void invokeLevel(Object event, Listener[] chain, int from, int to, Target target, int unregistered) {
+        boolean[] invoked = new boolean[(to - from) + 1];
+        int last = -1;
+        for (int i = from; i <= to; i++) {
+            Listener listener = chain[i];
+            if (target.targets(listener.getClass()) && !listener.isExpired() && !wasUnregistered(listener, unregistered)) {
+                invoked[i - from] = true;
+                last = i;
+            }
+        }
+        if (last < 0) {
+            return;
+        }
+
+        Future<?>[] forked = new Future[last - from];
+        Throwable failure = null;
+        try {
+            for (int i = from; i < last; i++) {
+                if (invoked[i - from]) {
+                    Listener listener = chain[i];
+                    forked[i - from] = ((ExecutorService) getExecutor()).submit(() -> listener.invoke(event));
+                }
+            }
+            chain[last].invoke(event);
+        } catch (Throwable t) {
+            failure = t;
+        }
+        failure = join(forked, failure);
+        if (failure instanceof RuntimeException runtime) {
+            throw runtime;
+        } else if (failure instanceof Error error) {
+            throw error;
+        } else if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+
+        if ((event instanceof IStatusEvent e) && e.isTerminated()) {
+            return;
+        }
+        for (int i = from; i <= last; i++) {
+            Listener listener = chain[i];
+            if (invoked[i - from] && !listener.shouldPersist()) {
+                expire(listener);
+            }
+        }
+    }
+
+    /**
+     * Waits for every forked listener to finish.
+     *
+     * @param forked  the forked listeners, or {@code null} where none was forked.
+     * @param failure the exception already thrown on the calling thread, if any.
+     * @return {@code failure}, or the first forked failure if it is {@code null}, with every other failure suppressed.
+     */
+    private static Throwable join(Future<?>[] forked, Throwable failure) {
+        boolean interrupted = false;
+        for (Future<?> future : forked) {
+            if (future == null) {
+                continue;
+            }
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    } else {
+                        failure.addSuppressed(e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadEventBus{" +
+                "id=" + id +
+                ", shutdown=" + shutdown +
+                ", mode=" + mode +
+                ", virtual=" + isVirtual() +
+                ", fifo=" + isFifo() +
+                ", capacity=" + getCapacity() +
+                ", listeners=" + getListeners() +
+                ", subscribers=" + subscribers +
+                ", taskExecutor=" + taskExecutor +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the thread-per-task executors used by {@link VirtualThreadEventBus}.
+ * <p>
+ * This is the Java 17 baseline, which has no virtual threads and falls back to cached daemon platform threads. A Java
+ * 21 implementation backed by virtual threads is shipped in the multi-release layer of the Wraith jar.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return {@code true} if executors created by {@link #newThreadPerTaskExecutor(String)} use virtual threads.
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Creates an executor that starts a new thread for each task.
+     *
+     * @param namePrefix the prefix of the names of the created threads.
+     * @return a new executor that starts a daemon platform thread for each task, reusing idle threads.
+     */
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
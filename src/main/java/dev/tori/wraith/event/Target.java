@@ -21,10 +21,12 @@
 
 package dev.tori.wraith.event;
 
+import dev.tori.wraith.util.TypeHierarchy;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -37,6 +39,11 @@ import java.util.Objects;
  */
 public class Target {
 
+    /**
+     * The shared {@link Target} returned by {@link #all()}.
+     */
+    private static final Target ALL = new Target(Object.class, TargetingRule.CASCADE);
+
     @NotNull
     private final Class<?> targetClazz;
     @NotNull
@@ -69,13 +76,16 @@ public class Target {
 
     /**
      * Returns a {@link Target} that matches any class.
+     * <p>
+     * Since {@code 4.2.0}, the same instance is returned on every call, so dispatching without a target never
+     * allocates.
      *
      * @return a {@link Target} that matches any class.
      */
     @NotNull
-    @Contract(value = " -> new", pure = true)
+    @Contract(pure = true)
     public static Target all() {
-        return new Target(Object.class, TargetingRule.CASCADE);
+        return ALL;
     }
 
     /**
@@ -114,6 +124,30 @@ public class Target {
         return new Target(clazz, TargetingRule.REVERSE_CASCADE);
     }
 
+    /**
+     * Returns a {@link Target} that matches a class if any of the given targets matches it.
+     * <p>
+     * The {@linkplain #clazz() class} of the returned target is the most specific class that every matched class
+     * extends, and its {@linkplain #rule() rule} is {@link TargetingRule#CASCADE CASCADE}, but matching is always
+     * delegated to the given targets.
+     *
+     * @param targets the targets to combine.
+     * @return the given target if only one is given, otherwise a new {@link Target} matching the union of them.
+     * @throws IllegalArgumentException if no targets are given
+     * @since 4.2.0
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Target anyOf(@NotNull Target... targets) {
+        if (targets.length == 0) {
+            throw new IllegalArgumentException("Cannot combine zero targets.");
+        }
+        if (targets.length == 1) {
+            return Objects.requireNonNull(targets[0]);
+        }
+        return new Union(targets.clone());
+    }
+
     /**
      * Checks if the target class matches the given class according to the targeting rule.
      *
@@ -176,6 +210,82 @@ public class Target {
                 '}';
     }
 
+    /**
+     * A {@link Target} matching the union of several targets.
+     *
+     * @see #anyOf(Target...)
+     */
+    private static final class Union extends Target {
+
+        @NotNull
+        private final Target[] targets;
+
+        private Union(@NotNull Target[] targets) {
+            super(commonClass(targets), TargetingRule.CASCADE);
+            this.targets = targets;
+        }
+
+        /**
+         * @return the most specific class that every class matched by any of the given targets extends.
+         */
+        @SuppressWarnings("removal")
+        @NotNull
+        private static Class<?> commonClass(@NotNull Target[] targets) {
+            Class<?> common = null;
+            for (Target target : targets) {
+                if (target.rule == TargetingRule.REVERSE_CASCADE) {
+                    return Object.class;
+                }
+                Class<?> clazz = (target.targetClazz.isInterface() || target.targetClazz.isPrimitive())
+                        ? Object.class
+                        : target.targetClazz;
+                if (common == null) {
+                    common = clazz;
+                } else {
+                    while (!common.isAssignableFrom(clazz)) {
+                        common = common.getSuperclass();
+                    }
+                }
+            }
+            return common;
+        }
+
+        @Override
+        public boolean targets(@NotNull Class<?> clazz) {
+            for (Target target : targets) {
+                if (target.targets(clazz)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if ((obj == null) || (getClass() != obj.getClass())) {
+                return false;
+            }
+
+            Union union = (Union) obj;
+            return Arrays.equals(targets, union.targets);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(targets);
+        }
+
+        @Override
+        public String toString() {
+            return "Target{" +
+                    "anyOf=" + Arrays.toString(targets) +
+                    '}';
+        }
+    }
+
     /**
      * Enumeration of targeting rules.
      */
@@ -191,11 +301,13 @@ public class Target {
         },
         /**
          * The class must be a subclass or implementation of the target class.
+         * <p>
+         * Matching is a binary search in the cached {@linkplain TypeHierarchy type hierarchy} of the class.
          */
         CASCADE {
             @Override
             public boolean classesMatch(Class<?> clazz, Class<?> target) {
-                return target.isAssignableFrom(clazz);
+                return TypeHierarchy.isSubtype(clazz, target);
             }
         },
         /**
@@ -208,7 +320,7 @@ public class Target {
         REVERSE_CASCADE {
             @Override
             public boolean classesMatch(Class<?> clazz, Class<?> target) {
-                return clazz.isAssignableFrom(target);
+                return TypeHierarchy.isSubtype(target, clazz);
             }
         };
 
@@ -35,6 +35,12 @@ public class StatusEvent implements IStatusEvent {
     @NotNull
     protected EventStatus status = EventStatus.ALIVE;
 
+    /**
+     * The state of this event in a {@link StatusEventPool}; one of {@link StatusEventPool#IN_USE},
+     * {@link StatusEventPool#DROPPED}, {@link StatusEventPool#POOLED}, or {@link StatusEventPool#RELEASED}.
+     */
+    byte poolState = StatusEventPool.IN_USE;
+
     /**
      * {@inheritDoc}
      *
@@ -43,6 +49,7 @@ public class StatusEvent implements IStatusEvent {
     @NotNull
     @Override
     public EventStatus getEventStatus() {
+        checkInUse();
         return status;
     }
 
@@ -53,6 +60,7 @@ public class StatusEvent implements IStatusEvent {
      */
     @Override
     public void setEventStatus(@NotNull EventStatus status) {
+        checkInUse();
         this.status = status;
     }
 
@@ -63,6 +71,7 @@ public class StatusEvent implements IStatusEvent {
      */
     @Override
     public boolean isSuppressed() {
+        checkInUse();
         return status == EventStatus.SUPPRESSED;
     }
 
@@ -73,6 +82,7 @@ public class StatusEvent implements IStatusEvent {
      */
     @Override
     public boolean isTerminated() {
+        checkInUse();
         return status == EventStatus.TERMINATED;
     }
 
@@ -84,9 +94,31 @@ public class StatusEvent implements IStatusEvent {
      */
     @Override
     public boolean isAlive() {
+        checkInUse();
         return status == EventStatus.ALIVE;
     }
 
+    /**
+     * Restores this event to its initial state, so that it can be reused by a {@link StatusEventPool}.
+     * <p>
+     * Subclasses holding additional state should override this method to clear it, and must call
+     * {@code super.reset()}.
+     *
+     * @since 4.2.0
+     */
+    public void reset() {
+        this.status = EventStatus.ALIVE;
+    }
+
+    /**
+     * @throws IllegalStateException if this event has been released to a {@link StatusEventPool}.
+     */
+    private void checkInUse() {
+        if (poolState >= StatusEventPool.POOLED) {
+            throw new IllegalStateException("Pooled event " + getClass().getName() + " was used after being released.");
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
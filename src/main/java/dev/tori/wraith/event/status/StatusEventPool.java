@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.event.status;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable {@link StatusEvent} instances, keyed by event class.
+ * <p>
+ * Each thread keeps its own stack of released events per class, so {@link #acquire(Class)} and
+ * {@link #release(StatusEvent)} never contend. Released events are {@linkplain StatusEvent#reset() reset} before
+ * being handed out again. An event that is released twice, or used through its {@link IStatusEvent} methods while
+ * pooled, causes an {@link IllegalStateException}.
+ * <p>
+ * In debug mode, released events are never reused: they stay poisoned forever, so any listener that kept a
+ * reference to a pooled event fails as soon as it touches it, instead of silently observing another dispatch. Debug
+ * mode therefore reports every acquisition as a miss.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @see dev.tori.wraith.bus.IEventBus#dispatchPooled(StatusEventPool, Class, java.util.function.Consumer)
+ * @since 4.2.0
+ */
+public final class StatusEventPool {
+
+    /**
+     * The default maximum number of released events kept per thread and class.
+     */
+    public static final int DEFAULT_MAX_PER_THREAD = 64;
+
+    /**
+     * The event is not in a pool, and may be used and released.
+     */
+    static final byte IN_USE = 0;
+    /**
+     * The event was released to a full pool and dropped. It may still be used, since nothing will reuse it, but not
+     * released again.
+     */
+    static final byte DROPPED = 1;
+    /**
+     * The event is in a pool, waiting to be reused. Every state from here on must not be used.
+     */
+    static final byte POOLED = 2;
+    /**
+     * The event was released in debug mode, and is poisoned forever.
+     */
+    static final byte RELEASED = 3;
+
+    private final Map<Class<?>, Supplier<?>> factories;
+    private final ThreadLocal<Map<Class<?>, ArrayDeque<StatusEvent>>> pools;
+    private final int maxPerThread;
+    private final boolean debug;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * Creates a new {@link StatusEventPool} that keeps up to {@link #DEFAULT_MAX_PER_THREAD} events per thread and
+     * class, without debug checks.
+     */
+    public StatusEventPool() {
+        this(DEFAULT_MAX_PER_THREAD, false);
+    }
+
+    /**
+     * Creates a new {@link StatusEventPool}.
+     *
+     * @param maxPerThread the maximum number of released events kept per thread and class.
+     * @param debug        if {@code true}, released events are poisoned instead of reused.
+     * @throws IllegalArgumentException if {@code maxPerThread} is negative.
+     */
+    public StatusEventPool(int maxPerThread, boolean debug) {
+        if (maxPerThread < 0) {
+            throw new IllegalArgumentException("maxPerThread must not be negative, was " + maxPerThread);
+        }
+        this.factories = new ConcurrentHashMap<>();
+        this.pools = ThreadLocal.withInitial(HashMap::new);
+        this.maxPerThread = maxPerThread;
+        this.debug = debug;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Registers the factory used to create new events of the given class when none is pooled.
+     *
+     * @param type    the class of the events.
+     * @param factory creates new events of exactly {@code type}.
+     * @param <E>     the type of the events.
+     * @return this pool.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public <E extends StatusEvent> StatusEventPool register(Class<E> type, Supplier<? extends E> factory) {
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(factory, "factory must not be null");
+        factories.put(type, factory);
+        return this;
+    }
+
+    /**
+     * Takes a {@linkplain StatusEvent#reset() reset} event of the given class from this thread's pool, or creates one
+     * if the pool is empty.
+     *
+     * @param type the class of the event.
+     * @param <E>  the type of the event.
+     * @return an event of the given class, ready to be initialized and dispatched.
+     * @throws IllegalArgumentException if no factory is {@linkplain #register(Class, Supplier) registered} for
+     *                                  {@code type}.
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends StatusEvent> E acquire(Class<E> type) {
+        ArrayDeque<StatusEvent> pool = pools.get().get(type);
+        StatusEvent event = (pool == null) ? null : pool.pollLast();
+        if (event != null) {
+            hits.increment();
+            event.poolState = IN_USE;
+            event.reset();
+            return (E) event;
+        }
+
+        misses.increment();
+        Supplier<?> factory = factories.get(type);
+        if (factory == null) {
+            throw new IllegalArgumentException("No factory registered for " + type.getName());
+        }
+        E created = type.cast(factory.get());
+        if (created == null) {
+            throw new IllegalStateException("Factory for " + type.getName() + " returned null");
+        }
+        return created;
+    }
+
+    /**
+     * Returns the given event to this thread's pool. The event must not be used afterwards.
+     * <p>
+     * If the pool already holds {@link #getMaxPerThread()} events of its class, the event is dropped instead: it is
+     * never handed out again, so it stays usable, but it cannot be released again.
+     *
+     * @param event the event to release.
+     * @throws IllegalStateException if {@code event} has already been released.
+     */
+    public void release(StatusEvent event) {
+        if (event.poolState != IN_USE) {
+            throw new IllegalStateException("Pooled event " + event.getClass().getName() + " was released twice.");
+        }
+        if (debug) {
+            event.poolState = RELEASED;
+            return;
+        }
+
+        ArrayDeque<StatusEvent> pool = pools.get().computeIfAbsent(event.getClass(), type -> new ArrayDeque<>());
+        if (pool.size() < maxPerThread) {
+            event.poolState = POOLED;
+            pool.addLast(event);
+        } else {
+            event.poolState = DROPPED;
+        }
+    }
+
+    /**
+     * @return the number of acquisitions served from a pool.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of acquisitions that had to create a new event.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return {@code true} if released events are poisoned instead of reused.
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * @return the maximum number of released events kept per thread and class.
+     */
+    public int getMaxPerThread() {
+        return maxPerThread;
+    }
+
+    @Override
+    public String toString() {
+        return "StatusEventPool{" +
+                "maxPerThread=" + maxPerThread +
+                ", debug=" + debug +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                '}';
+    }
+}
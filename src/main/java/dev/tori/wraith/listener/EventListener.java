@@ -123,6 +123,19 @@ public abstract class EventListener<T> implements Listener<T> {
         return hasIndefinitePersistence() || ((--persists) > 0);
     }
 
+    /**
+     * Determines whether this listener has used up its persistence. A listener is expired once it is not
+     * {@linkplain #hasIndefinitePersistence() inherently persistent} and its
+     * {@linkplain EventListener#persists internal persistence counter} has reached zero.
+     *
+     * @return {@code true} if this listener is expired, {@code false} otherwise.
+     * @since 4.2.0
+     */
+    @Override
+    public boolean isExpired() {
+        return !hasIndefinitePersistence() && (persists <= 0);
+    }
+
     /**
      * Indicates whether this listener is inherently persistent.
      * A listener is considered inherently persistent if the {@linkplain #indefinitePersistence} flag is set to {@code true}.
@@ -83,6 +83,15 @@ public class LambdaEventListener<E> extends EventListener<E> {
         this.invokable = invokable;
     }
 
+    /**
+     * @return the invokable action this listener wraps.
+     * @since 4.2.0
+     */
+    @NotNull
+    public Invokable<E> getInvokable() {
+        return invokable;
+    }
+
     /**
      * Invokes the wrapped invokable action with the provided event.
      *
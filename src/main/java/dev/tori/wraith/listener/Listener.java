@@ -69,6 +69,20 @@ public interface Listener<T> extends Invokable<T>, Comparable<Listener<T>> {
         return hasIndefinitePersistence();
     }
 
+    /**
+     * Determines whether the listener has used up its persistence, and must not be invoked again.
+     * <p>
+     * Event buses may keep an expired listener registered for a while, and remove it later together with other
+     * expired listeners, as long as they skip it when dispatching. Listeners that cannot tell return {@code false},
+     * and are unregistered as soon as {@link #shouldPersist()} returns {@code false}.
+     *
+     * @return {@code true} if the listener is expired, {@code false} otherwise.
+     * @since 4.2.0
+     */
+    default boolean isExpired() {
+        return false;
+    }
+
     /**
      * Indicates whether the listener is inherently persistent.
      *
@@ -134,6 +134,10 @@ public class ListenerBuilder<T> {
 
     /**
      * Builds and returns an {@link EventListener} with the configured properties.
+     * <p>
+     * Since {@code 4.2.0}, the built listener is a {@link LambdaEventListener}, so two built listeners are only equal
+     * if they also share the same {@link Invokable}. Listeners built for different methods, or for different
+     * instances, are never merged by an event bus.
      *
      * @return a new {@link EventListener} instance.
      * @throws NullPointerException     if the target or invokable is not set.
@@ -149,11 +153,6 @@ public class ListenerBuilder<T> {
                     "Persistency missmatch. persistent=" + persistent + " and persists=" + persists + " is not allowed."
             );
         }
-        return new EventListener<>(target, priority, persists) {
-            @Override
-            public void invoke(T event) {
-                invokable.invoke(event);
-            }
-        };
+        return new LambdaEventListener<>(target, priority, persists, invokable);
     }
 }
\ No newline at end of file
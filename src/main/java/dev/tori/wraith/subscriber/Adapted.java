@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.listener.Listen;
+import dev.tori.wraith.listener.Listener;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a {@link Subscriber} type whose {@link Listen} methods should be registered as a single adapter
+ * {@link Listener}, rather than as one listener per method.
+ * <p>
+ * The adapter targets every event class that any of its methods targets, and looks up the methods matching an
+ * event's class in a table computed once per subscriber type, so a subscriber with many listener methods costs one
+ * registry entry, and one target check per dispatch chain, instead of one per method. In exchange, each method is
+ * invoked through one more indirection than a dedicated listener would be, so adapting suits large populations of
+ * subscribers with many methods, rather than a few subscribers that receive frequent events.
+ * <p>
+ * Adapting changes how the listener methods are ordered relative to other listeners:
+ * <ul>
+ * <li>The adapter is registered with the highest priority of its methods. Its methods are invoked in priority
+ * order among themselves, but all of them before any other listener of lower priority than the adapter.</li>
+ * <li>Methods with a limited {@link Listen#persists() persistence} are registered as separate listeners, since an
+ * adapter cannot expire one method at a time.</li>
+ * <li>{@linkplain dev.tori.wraith.event.Target Targeted} dispatches, which select listeners by their class, do not
+ * match the adapter.</li>
+ * </ul>
+ *
+ * <p><b>Usage Example:</b>
+ *
+ * <pre>
+ * {@code
+ * @Adapted
+ * public class MySubscriber extends Subscriber {
+ *     @Listen
+ *     public void onFoo(FooEvent event) { ... }
+ *
+ *     @Listen
+ *     public void onBar(BarEvent event) { ... }
+ * }
+ * }</pre>
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Adapted {
+}
\ No newline at end of file
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.Invokable;
+import dev.tori.wraith.listener.Listen;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.listener.ListenerBuilder;
+import dev.tori.wraith.util.ReflectionUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Discovers and caches the {@link Listen} methods of subscriber types, including those inherited from superclasses
+ * and interfaces.
+ * <p>
+ * Each class in a hierarchy is scanned once, no matter how many subscriber types extend it, and the listener methods
+ * of each subscriber type are resolved once, no matter how many instances are created.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+final class ListenerMethods {
+
+    private static final ListenerMethod[] NONE = new ListenerMethod[0];
+
+    /**
+     * The methods each class declares that could be, or could override, a listener method, keyed by their erased
+     * signature. Bridge methods are included, but only where the class declares no other method with that signature.
+     */
+    private static final ClassValue<Map<Signature, Method>> DECLARED = new ClassValue<>() {
+        @Override
+        protected Map<Signature, Method> computeValue(Class<?> type) {
+            Map<Signature, Method> declared = new LinkedHashMap<>();
+            for (Method method : type.getDeclaredMethods()) {
+                if ((method.isBridge() || !method.isSynthetic()) && (method.getParameterCount() <= 1)) {
+                    Signature signature = new Signature(method);
+                    if (!method.isBridge() || !declared.containsKey(signature)) {
+                        declared.put(signature, method);
+                    }
+                }
+            }
+            return declared;
+        }
+    };
+
+    /**
+     * The resolved listener methods of each subscriber type.
+     */
+    private static final ClassValue<ListenerMethod[]> RESOLVED = new ClassValue<>() {
+        @Override
+        protected ListenerMethod[] computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private ListenerMethods() {
+        throw new AssertionError("No instances.");
+    }
+
+    /**
+     * Returns the listener methods of the given subscriber type.
+     *
+     * @param type the subscriber type.
+     * @return the listener methods of {@code type}, declared and inherited.
+     */
+    @NotNull
+    static ListenerMethod[] of(@NotNull Class<?> type) {
+        return RESOLVED.get(type);
+    }
+
+    /**
+     * Resolves the listener methods of the given subscriber type.
+     * <p>
+     * A method is a listener if it, or a method it overrides, is annotated with {@link Listen}. Its listener settings
+     * are read from the most specific annotated declaration, and it is invoked through the most specific concrete
+     * declaration, so an override is called in place of the method it overrides, and each method is registered once.
+     * Superclasses take precedence over interfaces, as they do for default methods. Overrides are matched on erased
+     * signatures, following bridge methods to the methods they call, so a method implementing a generic
+     * {@code @Listen} method is found, and listens for its own parameter type.
+     * <p>
+     * Methods must meet the following criteria to be registered:
+     * <ui>
+     * <li>Must not have a parent class that is {@code package-private} or {@code private}.</li>
+     * <li>Must be annotated with {@link Listen}, or override a method annotated with {@link Listen}.</li>
+     * <li>Must have at most one parameter.</li>
+     * <li>Must have a non-abstract implementation.</li>
+     * <li>Must either be accessible or able to be made accessible (via {@linkplain ReflectionUtil#setAccessible(Method) reflection}).</li>
+     * </ui>
+     * </p>
+     */
+    @NotNull
+    private static ListenerMethod[] resolve(@NotNull Class<?> type) {
+        List<Class<?>> hierarchy = hierarchyOf(type);
+
+        // Each implementation is registered once, with the settings of its most specific annotated declaration.
+        Map<Method, Method> annotated = new LinkedHashMap<>();
+        for (Class<?> clazz : hierarchy) {
+            for (Map.Entry<Signature, Method> entry : DECLARED.get(clazz).entrySet()) {
+                Method declaration = entry.getValue();
+                if (!declaration.isBridge() && declaration.isAnnotationPresent(Listen.class)) {
+                    Method implementation = findImplementation(hierarchy, entry.getKey(), declaration);
+                    if (implementation != null) {
+                        annotated.putIfAbsent(implementation, declaration);
+                    }
+                }
+            }
+        }
+        if (annotated.isEmpty()) {
+            return NONE;
+        }
+
+        List<ListenerMethod> methods = new ArrayList<>(annotated.size());
+        for (Map.Entry<Method, Method> entry : annotated.entrySet()) {
+            Method implementation = entry.getKey();
+            if (!ReflectionUtil.canAccessMethod(implementation.getDeclaringClass())) {
+                continue;
+            }
+            if (!Modifier.isPublic(implementation.getModifiers())) {
+                ReflectionUtil.setAccessible(implementation);
+            }
+            methods.add(new ListenerMethod(entry.getValue().getAnnotation(Listen.class), implementation));
+        }
+        return methods.toArray(NONE);
+    }
+
+    /**
+     * @return the most specific non-abstract method of the hierarchy that is, or overrides, {@code declaration}, or
+     * {@code null} if there is none.
+     */
+    private static Method findImplementation(@NotNull List<Class<?>> hierarchy, @NotNull Signature signature,
+                                             @NotNull Method declaration) {
+        int modifiers = declaration.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers)) {
+            return Modifier.isAbstract(modifiers) ? null : declaration;
+        }
+        for (Class<?> clazz : hierarchy) {
+            Method method = DECLARED.get(clazz).get(signature);
+            if ((method != null) && overrides(method, declaration)) {
+                if (method.isBridge()) {
+                    method = findBridgeTarget(method);
+                }
+                if ((method != null) && !Modifier.isAbstract(method.getModifiers())) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code true} if {@code method}, which has the same erased signature as {@code declaration}, is
+     * {@code declaration} or overrides it.
+     */
+    private static boolean overrides(@NotNull Method method, @NotNull Method declaration) {
+        if (method.equals(declaration)) {
+            return true;
+        }
+        int modifiers = method.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers)) {
+            return false;
+        }
+        Class<?> declaringClass = declaration.getDeclaringClass();
+        if (declaringClass.isInterface()) {
+            return true;
+        }
+        if (!declaringClass.isAssignableFrom(method.getDeclaringClass())) {
+            return false;
+        }
+        int declared = declaration.getModifiers();
+        return Modifier.isPublic(declared) || Modifier.isProtected(declared)
+                || declaringClass.getPackageName().equals(method.getDeclaringClass().getPackageName());
+    }
+
+    /**
+     * Finds the method a bridge method calls: the most specific method of the bridge's class or its superclasses with
+     * the same name, and parameter types the bridge's parameter types are erasures of.
+     *
+     * @return the target of {@code bridge}, or {@code null} if it cannot be found.
+     */
+    private static Method findBridgeTarget(@NotNull Method bridge) {
+        Class<?>[] bridgeTypes = bridge.getParameterTypes();
+        for (Class<?> clazz = bridge.getDeclaringClass(); clazz != null; clazz = clazz.isInterface() ? null : clazz.getSuperclass()) {
+            for (Method method : DECLARED.get(clazz).values()) {
+                if (method.isBridge() || !method.getName().equals(bridge.getName())
+                        || (method.getParameterCount() != bridgeTypes.length)) {
+                    continue;
+                }
+                Class<?>[] types = method.getParameterTypes();
+                boolean matches = true;
+                for (int i = 0; i < types.length; i++) {
+                    matches &= bridgeTypes[i].isAssignableFrom(types[i]);
+                }
+                if (matches) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lists the given type, its superclasses, and then every interface they implement, most specific first.
+     * {@link Object} is excluded.
+     */
+    @NotNull
+    private static List<Class<?>> hierarchyOf(@NotNull Class<?> type) {
+        List<Class<?>> classes = new ArrayList<>();
+        for (Class<?> clazz = type; (clazz != null) && (clazz != Object.class); clazz = clazz.getSuperclass()) {
+            classes.add(clazz);
+        }
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> clazz : classes) {
+            queue.addAll(Arrays.asList(clazz.getInterfaces()));
+        }
+        while (!queue.isEmpty()) {
+            Class<?> next = queue.poll();
+            if (interfaces.add(next)) {
+                queue.addAll(Arrays.asList(next.getInterfaces()));
+            }
+        }
+        classes.addAll(interfaces);
+        return classes;
+    }
+
+    /**
+     * The erased signature of a method: its name and parameter types. Methods with the same signature may override one
+     * another, depending on their modifiers and declaring classes.
+     */
+    private static final class Signature {
+
+        private final String name;
+        private final Class<?>[] parameterTypes;
+
+        private Signature(@NotNull Method method) {
+            this.name = method.getName();
+            this.parameterTypes = method.getParameterTypes();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if ((obj == null) || (getClass() != obj.getClass())) {
+                return false;
+            }
+
+            Signature signature = (Signature) obj;
+            return name.equals(signature.name)
+                    && Arrays.equals(parameterTypes, signature.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = name.hashCode();
+            result = (31 * result) + Arrays.hashCode(parameterTypes);
+            return result;
+        }
+    }
+
+    /**
+     * The parsed {@link Listen} annotation of a method, along with a factory binding its invoker to an instance.
+     */
+    static final class ListenerMethod {
+
+        private final Target target;
+        private final int priority;
+        private final int persists;
+        private final Function<Object, Invokable<Object>> invokableFactory;
+
+        private ListenerMethod(@NotNull Listen annotation, @NotNull Method implementation) {
+            Class<?> targetClazz;
+            if (annotation.targetClass() == Object.class) {
+                targetClazz = ReflectionUtil.getParameterType(implementation);
+            } else {
+                targetClazz = annotation.targetClass();
+            }
+            this.target = Target.of(targetClazz, annotation.rule());
+            this.priority = annotation.priority();
+            this.persists = annotation.persists();
+            this.invokableFactory = ReflectionUtil.createInvokableFactory(implementation, (implementation.getParameterCount() == 1));
+        }
+
+        @NotNull
+        Target target() {
+            return target;
+        }
+
+        int priority() {
+            return priority;
+        }
+
+        int persists() {
+            return persists;
+        }
+
+        /**
+         * Binds this method's invoker to the given subscriber.
+         *
+         * @param subscriber the subscriber to invoke this method on.
+         * @return an invokable calling this method on {@code subscriber}.
+         */
+        @NotNull
+        Invokable<Object> invokable(@NotNull ISubscriber subscriber) {
+            return invokableFactory.apply(subscriber);
+        }
+
+        /**
+         * Creates a listener invoking this method on the given subscriber.
+         *
+         * @param subscriber the subscriber to invoke this method on.
+         * @return a new listener.
+         */
+        @NotNull
+        Listener<?> bind(@NotNull ISubscriber subscriber) {
+            return new ListenerBuilder<>()
+                    .priority(priority)
+                    .persists(persists)
+                    .target(target)
+                    .invokable(invokable(subscriber))
+                    .build();
+        }
+    }
+}
\ No newline at end of file
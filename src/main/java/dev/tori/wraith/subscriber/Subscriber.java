@@ -24,19 +24,11 @@ package dev.tori.wraith.subscriber;
 import dev.tori.wraith.bus.IEventBus;
 import dev.tori.wraith.listener.Listen;
 import dev.tori.wraith.listener.Listener;
-import dev.tori.wraith.listener.ListenerBuilder;
-import dev.tori.wraith.util.ReflectionUtil;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-
-import static dev.tori.wraith.util.ReflectionUtil.canAccessMethod;
-import static dev.tori.wraith.util.ReflectionUtil.createInvokable;
 
 /**
  * The default implementation of {@link ISubscriber} that manages event listeners and their registration.
@@ -54,6 +46,16 @@ public class Subscriber implements ISubscriber {
      */
     private static int instances = 0;
 
+    /**
+     * The generated {@link SubscriberRegistrar} of each subscriber type, if any.
+     */
+    private static final ClassValue<Optional<SubscriberRegistrar>> REGISTRARS = new ClassValue<>() {
+        @Override
+        protected Optional<SubscriberRegistrar> computeValue(Class<?> type) {
+            return findRegistrar(type);
+        }
+    };
+
     /**
      * A unique identifier for this {@link Subscriber}.
      */
@@ -95,48 +97,64 @@ public class Subscriber implements ISubscriber {
     }
 
     /**
-     * Identifies and registers methods within the specified {@linkplain ISubscriber subscriber} that are
-     * annotated with {@link Listen}.
-     * <p>
-     * Methods must meet the following criteria to be registered:
-     * <ui>
-     * <li>Must not have a parent class that is {@code package-private} or {@code private}.</li>
-     * <li>Must be annotated with {@link Listen}.</li>
-     * <li>Must have at most one parameter.</li>
-     * <li>Cannot be abstract.</li>
-     * <li>Must either be accessible or able to be made accessible (via {@linkplain ReflectionUtil#setAccessible(Method) reflection}).</li>
-     * </ui>
-     * </p>
+     * Registers the {@link Listen} methods of the specified {@linkplain ISubscriber subscriber}, as a
+     * {@linkplain Adapted single adapter} if its class is {@link Adapted}, using the
+     * {@linkplain SubscriberRegistrar generated registrar} of its class if one exists, and
+     * {@linkplain #registerReflectedListeners(ISubscriber) reflection} otherwise.
      *
-     * @param subscriber the {@linkplain ISubscriber subscriber} to scan for annotated listeners. Must not be {@code null}.
+     * @param subscriber the {@linkplain ISubscriber subscriber} to register annotated listeners for. Must not be {@code null}.
      */
+    @SuppressWarnings({"rawtypes", "unchecked"})
     private static void registerAnnotatedListeners(@NotNull ISubscriber subscriber) {
-        Arrays.stream(subscriber.getClass().getDeclaredMethods())
-                .filter((Method method) -> method.isAnnotationPresent(Listen.class))
-                .filter((Method method) -> method.getParameterCount() <= 1)
-                .filter((Method method) -> !Modifier.isAbstract(method.getModifiers()))
-                .filter((Method method) -> canAccessMethod(subscriber.getClass()))
-                .peek((Method method) -> {
-                    if (!Modifier.isPublic(method.getModifiers())) {
-                        ReflectionUtil.setAccessible(method);
-                    }
-                })
-                .map((Function<Method, Listener<?>>) (Method method) -> {
-                    Listen annotation = method.getAnnotation(Listen.class);
-                    Class<?> targetClazz;
-                    if (annotation.targetClass() == Object.class) {
-                        targetClazz = ReflectionUtil.getParameterType(method);
-                    } else {
-                        targetClazz = annotation.targetClass();
-                    }
-                    ListenerBuilder<Object> builder = new ListenerBuilder<>()
-                            .priority(annotation.priority())
-                            .persists(annotation.persists())
-                            .target(targetClazz, annotation.rule())
-                            .invokable(createInvokable(method, subscriber, (method.getParameterCount() == 1)));
-                    return builder.build();
-                })
-                .forEach(subscriber::registerListener);
+        if (subscriber.getClass().isAnnotationPresent(Adapted.class)) {
+            SubscriberAdapter.registerListeners(subscriber);
+            return;
+        }
+        Optional<SubscriberRegistrar> registrar = REGISTRARS.get(subscriber.getClass());
+        if (registrar.isPresent()) {
+            registrar.get().registerListeners(subscriber);
+        } else {
+            registerReflectedListeners(subscriber);
+        }
+    }
+
+    /**
+     * Loads and instantiates the {@link SubscriberRegistrar} generated for the specified subscriber type.
+     *
+     * @param type the subscriber type.
+     * @return the registrar, or an empty optional if none was generated or it cannot be used.
+     */
+    @NotNull
+    private static Optional<SubscriberRegistrar> findRegistrar(@NotNull Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return Optional.empty();
+        }
+        try {
+            Class<?> registrarClass = Class.forName(type.getName() + SubscriberRegistrar.SUFFIX, true, loader);
+            if (!SubscriberRegistrar.class.isAssignableFrom(registrarClass)) {
+                return Optional.empty();
+            }
+            return Optional.of((SubscriberRegistrar) registrarClass.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Registers a listener for each {@link Listen} method of the specified {@linkplain ISubscriber subscriber},
+     * including methods inherited from its superclasses and interfaces.
+     * <p>
+     * The methods of each class are only scanned once. Every later instance of the same class only binds the
+     * precomputed invokers to itself.
+     *
+     * @param subscriber the {@linkplain ISubscriber subscriber} to register annotated listeners for. Must not be {@code null}.
+     * @see ListenerMethods
+     */
+    private static void registerReflectedListeners(@NotNull ISubscriber subscriber) {
+        for (ListenerMethods.ListenerMethod method : ListenerMethods.of(subscriber.getClass())) {
+            subscriber.registerListener(method.bind(subscriber));
+        }
     }
 
     /**
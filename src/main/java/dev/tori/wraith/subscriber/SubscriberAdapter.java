@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.listener.Invokable;
+import dev.tori.wraith.listener.Listen;
+import dev.tori.wraith.listener.Listener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A single {@link Listener} dispatching to every indefinitely persistent {@link Listen} method of an
+ * {@linkplain Adapted adapted} subscriber.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @see Adapted
+ * @since 4.2.0
+ */
+final class SubscriberAdapter implements Listener<Object> {
+
+    /**
+     * The adapter layout of each adapted subscriber type.
+     */
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+            return new Layout(ListenerMethods.of(type));
+        }
+    };
+
+    @NotNull
+    private final Layout layout;
+    /**
+     * The invoker of each of {@link Layout#adapted}, bound to the subscriber.
+     */
+    @NotNull
+    private final Invokable<Object>[] invokers;
+
+    @SuppressWarnings("unchecked")
+    private SubscriberAdapter(@NotNull Layout layout, @NotNull ISubscriber subscriber) {
+        this.layout = layout;
+        this.invokers = new Invokable[layout.adapted.length];
+        for (int i = 0; i < invokers.length; i++) {
+            invokers[i] = layout.adapted[i].invokable(subscriber);
+        }
+    }
+
+    /**
+     * Registers the {@link Listen} methods of the given subscriber, folding every indefinitely persistent method into
+     * one adapter, and registering the others as separate listeners.
+     *
+     * @param subscriber the subscriber to register annotated listeners for.
+     */
+    static void registerListeners(@NotNull ISubscriber subscriber) {
+        Layout layout = LAYOUTS.get(subscriber.getClass());
+        for (ListenerMethods.ListenerMethod method : layout.separate) {
+            subscriber.registerListener(method.bind(subscriber));
+        }
+        if (layout.adapted.length != 0) {
+            subscriber.registerListener(new SubscriberAdapter(layout, subscriber));
+        }
+    }
+
+    /**
+     * Invokes each method targeting the event's class, in priority order, until the event is
+     * {@linkplain IStatusEvent#isTerminated() terminated}.
+     *
+     * @param event the event to be handled.
+     */
+    @Override
+    public void invoke(Object event) {
+        int[] matching = layout.matching(event.getClass());
+        for (int i = 0; i < matching.length; i++) {
+            invokers[matching[i]].invoke(event);
+
+            if ((event instanceof IStatusEvent e) && e.isTerminated()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int getPriority() {
+        return layout.priority;
+    }
+
+    @NotNull
+    @Override
+    public Target getTarget() {
+        return layout.target;
+    }
+
+    @Override
+    public String toString() {
+        return "SubscriberAdapter{" +
+                "priority=" + layout.priority +
+                ", target=" + layout.target +
+                ", methods=" + invokers.length +
+                '}';
+    }
+
+    /**
+     * The listener methods of an adapted subscriber type, split into those the adapter invokes and those registered
+     * separately, along with the adapter's priority and target, and the methods matching each event class.
+     */
+    private static final class Layout {
+
+        private static final ListenerMethods.ListenerMethod[] NONE = new ListenerMethods.ListenerMethod[0];
+        private static final int[] NO_MATCHES = new int[0];
+
+        /**
+         * The indefinitely persistent methods, in priority order.
+         */
+        private final ListenerMethods.ListenerMethod[] adapted;
+        /**
+         * The methods with a limited persistence.
+         */
+        private final ListenerMethods.ListenerMethod[] separate;
+        private final int priority;
+        private final Target target;
+        /**
+         * The indices of the {@link #adapted} methods whose target matches each event class. This is a plain map
+         * rather than a {@link ClassValue}, since a layout is itself a {@link ClassValue} value, and a
+         * {@link ClassValue} reachable from its own values keeps their classes from ever being unloaded.
+         */
+        private final Map<Class<?>, int[]> matchesByClass = new ConcurrentHashMap<>();
+
+        /**
+         * The most recently looked up event class and its matching methods. Every adapter of the same subscriber type
+         * usually receives the same event in a row, so this spares a map lookup per adapter. Races are harmless, since
+         * {@link Match} is immutable.
+         */
+        private Match lastMatch = new Match(Void.class, NO_MATCHES);
+
+        private Layout(@NotNull ListenerMethods.ListenerMethod[] methods) {
+            List<ListenerMethods.ListenerMethod> adapted = new ArrayList<>(methods.length);
+            List<ListenerMethods.ListenerMethod> separate = new ArrayList<>();
+            for (ListenerMethods.ListenerMethod method : methods) {
+                if (method.persists() > 0) {
+                    separate.add(method);
+                } else {
+                    adapted.add(method);
+                }
+            }
+            adapted.sort(Comparator.comparingInt(ListenerMethods.ListenerMethod::priority).reversed());
+
+            this.adapted = adapted.toArray(NONE);
+            this.separate = separate.toArray(NONE);
+            if (this.adapted.length == 0) {
+                this.priority = 0;
+                this.target = Target.all();
+            } else {
+                Set<Target> targets = new LinkedHashSet<>();
+                for (ListenerMethods.ListenerMethod method : this.adapted) {
+                    targets.add(method.target());
+                }
+                this.priority = this.adapted[0].priority();
+                this.target = Target.anyOf(targets.toArray(new Target[0]));
+            }
+        }
+
+        /**
+         * @param eventClass the concrete class of an event.
+         * @return the indices of the {@link #adapted} methods whose target matches {@code eventClass}.
+         */
+        @NotNull
+        private int[] matching(@NotNull Class<?> eventClass) {
+            Match match = lastMatch;
+            if (match.eventClass != eventClass) {
+                match = new Match(eventClass, matchesByClass.computeIfAbsent(eventClass, this::computeMatching));
+                lastMatch = match;
+            }
+            return match.indices;
+        }
+
+        @NotNull
+        private int[] computeMatching(@NotNull Class<?> eventClass) {
+            int[] indices = new int[adapted.length];
+            int size = 0;
+            for (int i = 0; i < adapted.length; i++) {
+                if (adapted[i].target().targets(eventClass)) {
+                    indices[size++] = i;
+                }
+            }
+            return (size == 0) ? NO_MATCHES : Arrays.copyOf(indices, size);
+        }
+    }
+
+    /**
+     * An event class, and the indices of the adapted methods matching it.
+     */
+    private static final class Match {
+
+        private final Class<?> eventClass;
+        private final int[] indices;
+
+        private Match(Class<?> eventClass, int[] indices) {
+            this.eventClass = eventClass;
+            this.indices = indices;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.listener.Listen;
+
+/**
+ * Registers the {@link Listen @Listen} methods of one subscriber type without reflection.
+ * <p>
+ * Implementations are generated at compile time by the {@code wraith-processor} annotation processor, as a class named
+ * after the binary name of the subscriber type followed by {@value #SUFFIX}. When such a class exists,
+ * {@link Subscriber} uses it instead of scanning the subscriber type reflectively.
+ *
+ * @param <S> the subscriber type.
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+public interface SubscriberRegistrar<S extends ISubscriber> {
+
+    /**
+     * The suffix appended to the binary name of a subscriber type to name its registrar.
+     */
+    String SUFFIX = "_WraithRegistrar";
+
+    /**
+     * Creates a listener for each {@link Listen @Listen} method declared by the subscriber type, and
+     * {@linkplain ISubscriber#registerListener(dev.tori.wraith.listener.Listener) registers} it with the given
+     * subscriber.
+     *
+     * @param subscriber the subscriber whose methods the listeners invoke.
+     */
+    void registerListeners(S subscriber);
+}
@@ -53,24 +53,32 @@ public class TaskExecutor {
 
     /**
      * Executes all tasks associated with the given event's class.
+     * <p>
+     * Tasks queued for the same event class are executed under that queue's lock, so this method may be called from
+     * multiple dispatching threads.
      *
      * @param event The event for which associated tasks should be executed.
      * @return {@code true} if any tasks were executed, {@code false} otherwise.
      */
     public boolean onEvent(@NotNull Object event) {
         ArrayList<ScheduledTask> queue = tasks.get(event.getClass());
-        if ((queue != null) && !queue.isEmpty()) {
-            boolean executed = false;
-            for (int i = 0; i < queue.size(); ) {
-                ScheduledTask task = queue.get(i);
-                if (task.decrementDelay() < 0) {
-                    task.run();
-                    executed = true;
+        if (queue != null) {
+            synchronized (queue) {
+                if (queue.isEmpty()) {
+                    return false;
                 }
-                i++;
+                boolean executed = false;
+                for (int i = 0; i < queue.size(); ) {
+                    ScheduledTask task = queue.get(i);
+                    if (task.decrementDelay() < 0) {
+                        task.run();
+                        executed = true;
+                    }
+                    i++;
+                }
+                queue.removeIf(task -> task.getDelay() < 0);
+                return executed;
             }
-            queue.removeIf(task -> task.getDelay() < 0);
-            return executed;
         }
         return false;
     }
@@ -82,7 +90,27 @@ public class TaskExecutor {
      * @see ScheduledTask
      */
     public void schedule(@NotNull ScheduledTask task) {
-        tasks.computeIfAbsent(task.getTarget(), clazz -> new ArrayList<>()).add(task);
+        ArrayList<ScheduledTask> queue = tasks.computeIfAbsent(task.getTarget(), clazz -> new ArrayList<>());
+        synchronized (queue) {
+            queue.add(task);
+        }
+    }
+
+    /**
+     * Checks whether any task is waiting for an event of the given class.
+     *
+     * @param eventClass the class of event to check.
+     * @return {@code true} if at least one task is scheduled for {@code eventClass}, {@code false} otherwise.
+     * @since 4.2.0
+     */
+    public boolean hasTasks(@NotNull Class<?> eventClass) {
+        ArrayList<ScheduledTask> queue = tasks.get(eventClass);
+        if (queue == null) {
+            return false;
+        }
+        synchronized (queue) {
+            return !queue.isEmpty();
+        }
     }
 
     /**
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.util;
+
+import dev.tori.wraith.listener.Invokable;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * The template of the {@link Invokable} generated for one {@code @Listen} method.
+ * <p>
+ * This class is never loaded as is. {@link ReflectionUtil} defines a hidden class from its bytes for every method it
+ * generates an invoker for, with an array of {@code [target, name]} as class data. Because {@link #TARGET} is
+ * {@code static final}, the JIT treats the method as a constant, so every generated class calls exactly one method,
+ * and a call site that sees a single listener method sees a single invoker class, which it can inline.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+final class GeneratedInvoker implements Invokable<Object> {
+
+    /**
+     * Calls the method, with the type {@code (Object receiver, Object event)void}. The receiver is ignored by static
+     * methods, and the event by methods without a parameter.
+     */
+    private static final MethodHandle TARGET;
+    /**
+     * The name of the method, for exception messages.
+     */
+    private static final String NAME;
+
+    static {
+        Object[] data;
+        try {
+            data = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, Object[].class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        TARGET = (MethodHandle) data[0];
+        NAME = (String) data[1];
+    }
+
+    private final Object receiver;
+
+    private GeneratedInvoker(Object receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void invoke(Object event) {
+        try {
+            TARGET.invokeExact(receiver, event);
+        } catch (Throwable t) {
+            throw new RuntimeException("Error invoking method: " + NAME, t);
+        }
+    }
+}
\ No newline at end of file
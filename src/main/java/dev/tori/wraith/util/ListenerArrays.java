@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.util;
+
+import dev.tori.wraith.listener.Listener;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Static helpers for immutable, priority-ordered arrays of {@link Listener listeners}.
+ * <p>
+ * None of these methods modify the array they are given; any change produces a new array. This makes them suitable
+ * for copy-on-write registries, where readers may hold a reference to an array at any time.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+@SuppressWarnings("rawtypes")
+public final class ListenerArrays {
+
+    /**
+     * A shared, empty listener array.
+     */
+    public static final Listener[] EMPTY = new Listener[0];
+
+    /**
+     * Finds the index at which a listener with the given priority should be inserted into a priority-ordered array.
+     * <p>
+     * The returned index is after every listener with an equal or higher priority, so listeners of equal priority
+     * keep their registration order.
+     *
+     * @param listeners a priority-ordered array.
+     * @param priority  the priority of the listener to be inserted.
+     * @return the insertion index, in {@code [0, listeners.length]}.
+     */
+    @Contract(pure = true)
+    public static int insertionIndex(Listener @NotNull [] listeners, int priority) {
+        int low = 0;
+        int high = listeners.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (listeners[mid].getPriority() >= priority) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the index at which a listener with the given priority should be inserted into a priority-ordered list.
+     * <p>
+     * The returned index is after every listener with an equal or higher priority, so listeners of equal priority
+     * keep their registration order.
+     *
+     * @param listeners a priority-ordered, random access list.
+     * @param priority  the priority of the listener to be inserted.
+     * @return the insertion index, in {@code [0, listeners.size()]}.
+     */
+    @Contract(pure = true)
+    public static int insertionIndex(@NotNull List<? extends Listener> listeners, int priority) {
+        int low = 0;
+        int high = listeners.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (listeners.get(mid).getPriority() >= priority) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns a copy of the given priority-ordered array with a listener inserted at its priority position.
+     *
+     * @param listeners a priority-ordered array.
+     * @param listener  the listener to insert.
+     * @return a new priority-ordered array containing {@code listener}.
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    public static Listener[] insert(Listener @NotNull [] listeners, @NotNull Listener listener) {
+        int index = insertionIndex(listeners, listener.getPriority());
+        Listener[] result = new Listener[listeners.length + 1];
+        System.arraycopy(listeners, 0, result, 0, index);
+        result[index] = listener;
+        System.arraycopy(listeners, index, result, index + 1, listeners.length - index);
+        return result;
+    }
+
+    /**
+     * Returns a copy of the given array without the element at {@code index}.
+     *
+     * @param listeners an array.
+     * @param index     the index of the element to remove.
+     * @return a new array without the element at {@code index}.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Listener[] removeAt(Listener @NotNull [] listeners, int index) {
+        if (listeners.length == 1) {
+            return EMPTY;
+        }
+        Listener[] result = new Listener[listeners.length - 1];
+        System.arraycopy(listeners, 0, result, 0, index);
+        System.arraycopy(listeners, index + 1, result, index, listeners.length - index - 1);
+        return result;
+    }
+
+    /**
+     * Returns the given array without the listeners matching the given predicate.
+     *
+     * @param listeners an array.
+     * @param filter    returns {@code true} for listeners to be removed.
+     * @return {@code listeners} itself if no listener matches {@code filter}, otherwise a new array of the listeners
+     * that do not, in the same order.
+     * @since 4.2.0
+     */
+    @NotNull
+    public static Listener[] removeIf(Listener @NotNull [] listeners, @NotNull Predicate<? super Listener> filter) {
+        Listener[] result = null;
+        int size = 0;
+        for (int i = 0; i < listeners.length; i++) {
+            Listener listener = listeners[i];
+            if (filter.test(listener)) {
+                if (result == null) {
+                    result = new Listener[listeners.length - 1];
+                    System.arraycopy(listeners, 0, result, 0, i);
+                    size = i;
+                }
+            } else if (result != null) {
+                result[size++] = listener;
+            }
+        }
+        if (result == null) {
+            return listeners;
+        }
+        return (size == 0) ? EMPTY : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Returns the index of the first element equal to the given listener.
+     *
+     * @param listeners an array.
+     * @param listener  the listener to look for.
+     * @return the index of {@code listener}, or {@code -1} if it is not present.
+     */
+    @Contract(pure = true)
+    public static int indexOf(Listener @NotNull [] listeners, @NotNull Listener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listener.equals(listeners[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the listeners of the given array whose {@link Listener#getTarget() target} matches the given class.
+     *
+     * @param listeners  a priority-ordered array.
+     * @param eventClass the concrete event class to match.
+     * @return a priority-ordered array of the matching listeners, which may be {@link #EMPTY}.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Listener[] filter(Listener @NotNull [] listeners, @NotNull Class<?> eventClass) {
+        Listener[] result = null;
+        int size = 0;
+        for (Listener listener : listeners) {
+            if (listener.getTarget().targets(eventClass)) {
+                if (result == null) {
+                    result = new Listener[listeners.length];
+                }
+                result[size++] = listener;
+            }
+        }
+        return (result == null) ? EMPTY : Arrays.copyOf(result, size);
+    }
+}
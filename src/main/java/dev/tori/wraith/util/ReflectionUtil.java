@@ -3,13 +3,20 @@ package dev.tori.wraith.util;
 import dev.tori.wraith.listener.Invokable;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InaccessibleObjectException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Utility class for handling reflection-related operations efficiently.
@@ -22,45 +29,203 @@ public final class ReflectionUtil {
 
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
     /**
-     * A cache for storing computed MethodHandles to optimize method invocations.
+     * A cache of unbound {@linkplain MethodHandle method handles}, per declaring class. Each handle is adapted to take
+     * and return only {@link Object} (and to return {@code void}), so it can be invoked exactly with any receiver and
+     * event.
      */
-    private static final Map<Method, MethodHandle> METHOD_HANDLE_MAP = new HashMap<>();
+    private static final ClassValue<Map<Method, MethodHandle>> HANDLE_MAP = new ClassValue<>() {
+        @Override
+        protected Map<Method, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * A cache of generated {@linkplain Invokable invokable} factories per declaring class, or an empty optional for
+     * methods that cannot be generated.
+     */
+    private static final ClassValue<Map<Method, Optional<MethodHandle>>> INVOKER_FACTORY_MAP = new ClassValue<>() {
+        @Override
+        protected Map<Method, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     /**
-     * Creates an {@linkplain Invokable} wrapper around a method, using {@linkplain MethodHandle} for optimized invocation.
+     * Creates an {@linkplain Invokable} wrapper around a method.
      * <p>
-     * This method caches method handles to avoid redundant lookups and provides a functional
-     * interface for invocation. The resulting invokable can be used to invoke the method effectively.
+     * Where possible, a dedicated {@link Invokable} class that calls the method directly is generated from the
+     * {@link GeneratedInvoker} template, so that dispatch sites see an ordinary, inlinable call, and exceptions are
+     * wrapped inside that class rather than in a wrapper shared by every method. The generated class is cached per
+     * method, and instantiated with {@code calledObject} on each call. Methods that cannot be generated, for example
+     * because the declaring class is not accessible for private lookup, fall back to invoking a
+     * {@linkplain MethodHandle method handle}.
      * </p>
      *
      * @param declaredMethod The method to be wrapped for invocation.
      * @param calledObject   The instance on which the method should be invoked.
      * @param hasParameter   {@code true} if the method accepts a parameter, otherwise {@code false}.
      * @return An {@link Invokable} object that allows invoking the method.
+     * @see #createInvokableFactory(Method, boolean)
      */
     @NotNull
     public static Invokable<Object> createInvokable(@NotNull Method declaredMethod, Object calledObject, boolean hasParameter) {
-        MethodHandle handle = METHOD_HANDLE_MAP.computeIfAbsent(declaredMethod, (Method m) -> {
-            try {
-                return LOOKUP.unreflect(m).bindTo(calledObject);
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to reflect and bind: " + declaredMethod, e);
+        return createInvokableFactory(declaredMethod, hasParameter).apply(calledObject);
+    }
+
+    /**
+     * Resolves everything needed to invoke a method up front, and returns a function that only binds it to an
+     * instance.
+     * <p>
+     * Applying the returned function is equivalent to calling {@link #createInvokable(Method, Object, boolean)}, but
+     * skips every cache lookup, so callers that create invokers for many instances of the same class should hold on to
+     * it. Static methods are bound once, and the same {@link Invokable} is returned for every instance.
+     * </p>
+     *
+     * @param declaredMethod The method to be wrapped for invocation.
+     * @param hasParameter   {@code true} if the method accepts a parameter, otherwise {@code false}.
+     * @return a function creating an {@link Invokable} for the instance it is applied to.
+     * @since 4.2.0
+     */
+    @NotNull
+    public static Function<Object, Invokable<Object>> createInvokableFactory(@NotNull Method declaredMethod, boolean hasParameter) {
+        Optional<MethodHandle> generated = INVOKER_FACTORY_MAP.get(declaredMethod.getDeclaringClass())
+                .computeIfAbsent(declaredMethod, ReflectionUtil::generateInvokerFactory);
+        if (generated.isEmpty()) {
+            getUnboundHandle(declaredMethod);
+            return (Object calledObject) -> createHandleInvokable(declaredMethod, calledObject, hasParameter);
+        }
+
+        MethodHandle factory = generated.get();
+        if (Modifier.isStatic(declaredMethod.getModifiers())) {
+            Invokable<Object> shared = newGeneratedInvoker(factory, null, declaredMethod);
+            return (Object calledObject) -> shared;
+        }
+        return (Object calledObject) -> newGeneratedInvoker(factory, calledObject, declaredMethod);
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static Invokable<Object> newGeneratedInvoker(@NotNull MethodHandle factory, Object calledObject, @NotNull Method method) {
+        try {
+            return (Invokable<Object>) factory.invoke(calledObject);
+        } catch (Throwable t) {
+            throw new RuntimeException("Failed to create invoker for: " + method, t);
+        }
+    }
+
+    /**
+     * Creates an {@linkplain Invokable} wrapper around a method, using {@linkplain MethodHandle} for invocation.
+     * <p>
+     * The method is unreflected once, and the resulting unbound handle is cached per declaring class. Each call only
+     * captures {@code calledObject} alongside the shared handle, so invokers for different instances of the same
+     * class never share a receiver, and this method may be called concurrently.
+     * </p>
+     *
+     * @param declaredMethod The method to be wrapped for invocation.
+     * @param calledObject   The instance on which the method should be invoked.
+     * @param hasParameter   {@code true} if the method accepts a parameter, otherwise {@code false}.
+     * @return An {@link Invokable} object that allows invoking the method.
+     * @since 4.2.0
+     */
+    @NotNull
+    static Invokable<Object> createHandleInvokable(@NotNull Method declaredMethod, Object calledObject, boolean hasParameter) {
+        MethodHandle handle = getUnboundHandle(declaredMethod);
+        String name = declaredMethod.getName();
+
+        if (Modifier.isStatic(declaredMethod.getModifiers())) {
+            if (hasParameter) {
+                return ((Object event) -> {
+                    try {
+                        handle.invokeExact(event);
+                    } catch (Throwable t) {
+                        throw new RuntimeException("Error invoking method: " + name, t);
+                    }
+                });
             }
-        });
+            return ((Object event) -> {
+                try {
+                    handle.invokeExact();
+                } catch (Throwable t) {
+                    throw new RuntimeException("Error invoking method: " + name, t);
+                }
+            });
+        }
 
+        Object receiver = Objects.requireNonNull(calledObject, "Cannot invoke instance method " + declaredMethod + " without an instance.");
+        if (hasParameter) {
+            return ((Object event) -> {
+                try {
+                    handle.invokeExact(receiver, event);
+                } catch (Throwable t) {
+                    throw new RuntimeException("Error invoking method: " + name, t);
+                }
+            });
+        }
         return ((Object event) -> {
             try {
-                if (hasParameter) {
-                    handle.invoke(event);
-                } else {
-                    handle.invoke();
-                }
+                handle.invokeExact(receiver);
             } catch (Throwable t) {
-                throw new RuntimeException("Error invoking method: " + declaredMethod.getName(), t);
+                throw new RuntimeException("Error invoking method: " + name, t);
             }
         });
     }
 
+    /**
+     * Returns the cached, unbound handle of the given method, unreflecting it on first use.
+     * <p>
+     * The handle takes the receiver first for instance methods, then the event if the method has a parameter. Every
+     * parameter is typed {@link Object} and the return type is {@code void}.
+     *
+     * @param method The method to get a handle for.
+     * @return the unbound, type-adapted handle of the method.
+     * @since 4.2.0
+     */
+    @NotNull
+    static MethodHandle getUnboundHandle(@NotNull Method method) {
+        return HANDLE_MAP.get(method.getDeclaringClass()).computeIfAbsent(method, (Method m) -> {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(m);
+                return handle.asType(handle.type().generic().changeReturnType(void.class));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Failed to reflect: " + m, e);
+            }
+        });
+    }
+
+    /**
+     * Defines a {@link GeneratedInvoker} hidden class calling the given method. The method is looked up privately in
+     * its declaring class, so it need not be {@linkplain #setAccessible(Method) accessible}.
+     *
+     * @param method The method to generate an invoker for.
+     * @return the constructor of the generated class, taking the receiver, or an empty optional if the method cannot
+     * be generated.
+     */
+    @NotNull
+    private static Optional<MethodHandle> generateInvokerFactory(@NotNull Method method) {
+        byte[] template = Template.BYTES;
+        if (template == null) {
+            return Optional.empty();
+        }
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        boolean hasParameter = method.getParameterCount() == 1;
+        try {
+            MethodHandle handle = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP).unreflect(method);
+            handle = handle.asType(handle.type().generic().changeReturnType(void.class));
+            if (isStatic) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            if (!hasParameter) {
+                handle = MethodHandles.dropArguments(handle, 1, Object.class);
+            }
+
+            MethodHandles.Lookup invoker = LOOKUP.defineHiddenClassWithClassData(template, new Object[]{handle, method.getName()}, true);
+            return Optional.of(invoker.findConstructor(invoker.lookupClass(), MethodType.methodType(void.class, Object.class)));
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Determines whether a given method can be accessed by a specified caller class.
      * <p>
@@ -143,4 +308,20 @@ public final class ReflectionUtil {
         }
         return parameterType;
     }
+
+    /**
+     * Holds the class file of {@link GeneratedInvoker}, read on first use.
+     */
+    private static final class Template {
+
+        private static final byte[] BYTES = read();
+
+        private static byte[] read() {
+            try (InputStream in = GeneratedInvoker.class.getResourceAsStream(GeneratedInvoker.class.getSimpleName() + ".class")) {
+                return (in == null) ? null : in.readAllBytes();
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
 }
\ No newline at end of file
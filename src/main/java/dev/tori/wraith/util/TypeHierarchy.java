@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A cache of class hierarchies, for fast subtype checks.
+ * <p>
+ * Every class gets an integer id the first time it is seen, and every class or interface caches the sorted ids of
+ * itself and all of its supertypes. {@link #isSubtype(Class, Class)} is then a binary search in an array no longer
+ * than the number of supertypes, however many classes have been seen. Both caches are
+ * {@link ClassValue ClassValues}, which are stored with the class itself, so they never keep a class, or its class
+ * loader, from being unloaded.
+ * <p>
+ * Array and primitive types are rare as event types, and their assignability rules are not a plain hierarchy; they
+ * are delegated to {@link Class#isAssignableFrom(Class)}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+public final class TypeHierarchy {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private static final ClassValue<Integer> IDS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(@NotNull Class<?> type) {
+            return NEXT_ID.getAndIncrement();
+        }
+    };
+    private static final ClassValue<int[]> SUPERTYPES = new ClassValue<>() {
+        @Override
+        protected int[] computeValue(@NotNull Class<?> type) {
+            return computeSupertypes(type);
+        }
+    };
+
+    private TypeHierarchy() {
+    }
+
+    /**
+     * Checks whether {@code type} is {@code supertype}, or a subclass or implementation of it; that is, whether
+     * {@code supertype.isAssignableFrom(type)}.
+     *
+     * @param type      the class to check.
+     * @param supertype the class it may extend or implement.
+     * @return {@code true} if {@code type} is assignable to {@code supertype}, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    public static boolean isSubtype(@NotNull Class<?> type, @NotNull Class<?> supertype) {
+        if (type == supertype) {
+            return true;
+        }
+        if (type.isArray() || type.isPrimitive() || supertype.isArray() || supertype.isPrimitive()) {
+            return supertype.isAssignableFrom(type);
+        }
+        return Arrays.binarySearch(SUPERTYPES.get(type), IDS.get(supertype)) >= 0;
+    }
+
+    /**
+     * @return the number of cached supertypes of {@code type}, including itself and {@link Object}.
+     */
+    static int getSupertypeCount(@NotNull Class<?> type) {
+        return SUPERTYPES.get(type).length;
+    }
+
+    /**
+     * @return the sorted ids of {@code type}, {@link Object}, and every superclass and interface of {@code type}.
+     */
+    @NotNull
+    private static int[] computeSupertypes(@NotNull Class<?> type) {
+        int id = IDS.get(type);
+        int object = IDS.get(Object.class);
+        int[] ids = (id == object) ? new int[]{id} : new int[]{Math.min(id, object), Math.max(id, object)};
+
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null) {
+            ids = union(ids, SUPERTYPES.get(superclass));
+        }
+        for (Class<?> superinterface : type.getInterfaces()) {
+            ids = union(ids, SUPERTYPES.get(superinterface));
+        }
+        return ids;
+    }
+
+    /**
+     * @return the sorted union of two sorted arrays of distinct ids.
+     */
+    @NotNull
+    private static int[] union(int @NotNull [] ids, int @NotNull [] other) {
+        int[] result = new int[ids.length + other.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while ((i < ids.length) && (j < other.length)) {
+            if (ids[i] < other[j]) {
+                result[size++] = ids[i++];
+            } else if (ids[i] > other[j]) {
+                result[size++] = other[j++];
+            } else {
+                result[size++] = ids[i++];
+                j++;
+            }
+        }
+        while (i < ids.length) {
+            result[size++] = ids[i++];
+        }
+        while (j < other.length) {
+            result[size++] = other[j++];
+        }
+        return (size == result.length) ? result : Arrays.copyOf(result, size);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests for {@link AsyncEventBus}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class AsyncEventBusTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void eventsAreDeliveredInPriorityOrder() throws InterruptedException {
+        AsyncEventBus bus = new AsyncEventBus(executor);
+        CountDownLatch delivered = new CountDownLatch(100);
+        bus.register(new LambdaEventListener<OrderedEvent>(Target.fine(OrderedEvent.class), 10, event -> event.invoked.add(10)));
+        bus.register(new LambdaEventListener<OrderedEvent>(Target.fine(OrderedEvent.class), 0, event -> event.invoked.add(0)));
+        bus.register(new LambdaEventListener<OrderedEvent>(Target.fine(OrderedEvent.class), -10, event -> {
+            event.invoked.add(-10);
+            delivered.countDown();
+        }));
+
+        List<OrderedEvent> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            OrderedEvent event = new OrderedEvent(i);
+            events.add(event);
+            Assertions.assertFalse(bus.dispatch(event), "Asynchronous dispatch should always return false.");
+        }
+
+        Assertions.assertTrue(delivered.await(10, TimeUnit.SECONDS), "Every event should be delivered.");
+        for (OrderedEvent event : events) {
+            Assertions.assertEquals(List.of(10, 0, -10), event.invoked, "Listeners should be invoked in priority order.");
+        }
+    }
+
+    @Test
+    void fifoPreservesPerProducerOrder() throws Exception {
+        AsyncEventBus bus = new AsyncEventBus(executor, true, 16);
+        ConcurrentLinkedQueue<OrderedEvent> received = new ConcurrentLinkedQueue<>();
+        CountDownLatch delivered = new CountDownLatch(2_000);
+        bus.register(new LambdaEventListener<OrderedEvent>(Target.fine(OrderedEvent.class), event -> {
+            received.add(event);
+            delivered.countDown();
+        }));
+
+        ExecutorService producers = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<?> producerA = CompletableFuture.runAsync(() -> produce(bus, 0), producers);
+            CompletableFuture<?> producerB = CompletableFuture.runAsync(() -> produce(bus, 1_000_000), producers);
+            producerA.get(10, TimeUnit.SECONDS);
+            producerB.get(10, TimeUnit.SECONDS);
+        } finally {
+            producers.shutdownNow();
+        }
+
+        Assertions.assertTrue(delivered.await(10, TimeUnit.SECONDS), "Every event should be delivered.");
+        int lastA = -1;
+        int lastB = 999_999;
+        for (OrderedEvent event : received) {
+            if (event.sequence < 1_000_000) {
+                Assertions.assertTrue(event.sequence > lastA, "Events of one producer should be delivered in order.");
+                lastA = event.sequence;
+            } else {
+                Assertions.assertTrue(event.sequence > lastB, "Events of one producer should be delivered in order.");
+                lastB = event.sequence;
+            }
+        }
+    }
+
+    @Test
+    void dispatchBlocksWhenFull() throws Exception {
+        List<Runnable> pending = Collections.synchronizedList(new ArrayList<>());
+        AsyncEventBus bus = new AsyncEventBus(pending::add, false, 2);
+        bus.dispatch(new Object());
+        bus.dispatch(new Object());
+
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> bus.dispatch(new Object()), executor);
+        Assertions.assertThrows(TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS), "Dispatching to a full event bus should block.");
+
+        pending.remove(0).run();
+        Assertions.assertFalse(blocked.get(10, TimeUnit.SECONDS), "Dispatching should resume once an event is delivered.");
+    }
+
+    @Test
+    void rejectedFifoDispatchIsNotDeliveredLater() {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        List<Object> received = new ArrayList<>();
+        AsyncEventBus bus = new AsyncEventBus(task -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("rejected");
+            }
+            task.run();
+        }, true, 4);
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), received::add));
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> bus.dispatch("rejected"));
+        reject.set(false);
+        bus.dispatch("accepted");
+
+        Assertions.assertEquals(List.of("accepted"), received);
+    }
+
+    @Test
+    void fifoLanesDoNotPinTheEventBus() throws Exception {
+        WeakReference<AsyncEventBus> bus = dispatchFromThisThread();
+        for (int i = 0; (i < 20) && (bus.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(bus.get(), "The lane of a live producer thread should not keep the event bus reachable.");
+    }
+
+    private static WeakReference<AsyncEventBus> dispatchFromThisThread() {
+        AsyncEventBus bus = new AsyncEventBus(Runnable::run, true, 4);
+        bus.dispatch("event");
+        return new WeakReference<>(bus);
+    }
+
+    @Test
+    void shutdown() {
+        AsyncEventBus bus = new AsyncEventBus(executor);
+        bus.shutdown();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> bus.dispatch(new Object()));
+        Assertions.assertThrows(NullPointerException.class, () -> new AsyncEventBus(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AsyncEventBus(executor, true, 0));
+    }
+
+    private static void produce(AsyncEventBus bus, int offset) {
+        for (int i = 0; i < 1_000; i++) {
+            bus.dispatch(new OrderedEvent(offset + i));
+        }
+    }
+
+    static final class OrderedEvent {
+
+        private final int sequence;
+        private final List<Integer> invoked = new ArrayList<>();
+
+        OrderedEvent(int sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.listener.LambdaEventListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link IEventBus#dispatchAll(Object[])} and {@link IEventBus#dispatchAll(java.util.Collection)}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class BatchDispatchTest {
+
+    private EventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new EventBus();
+    }
+
+    @Test
+    void eachEventIsDispatchedInOrder() {
+        List<Object> received = new ArrayList<>();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), received::add));
+        bus.register(new LambdaEventListener<>(Target.fine(Integer.class), received::add));
+
+        Assertions.assertEquals(0, bus.dispatchAll(new Object[]{"a", "b", 1, "c", 2}));
+        Assertions.assertEquals(List.of("a", "b", 1, "c", 2), received);
+
+        received.clear();
+        Assertions.assertEquals(0, bus.dispatchAll(List.of(3, "d")));
+        Assertions.assertEquals(List.of(3, "d"), received);
+    }
+
+    @Test
+    void terminationIsPerEvent() {
+        AtomicInteger lowPriority = new AtomicInteger();
+        bus.register(new LambdaEventListener<ToggleEvent>(Target.fine(ToggleEvent.class), 1, event -> {
+            if (event.cancel) {
+                event.terminate();
+            }
+        }));
+        bus.register(new LambdaEventListener<ToggleEvent>(Target.fine(ToggleEvent.class), 0, event -> lowPriority.incrementAndGet()));
+
+        int cancelled = bus.dispatchAll(Arrays.asList(
+                new ToggleEvent(true), new ToggleEvent(false), new ToggleEvent(true), new ToggleEvent(false)
+        ));
+
+        Assertions.assertEquals(2, cancelled, "dispatchAll should count every terminated event.");
+        Assertions.assertEquals(2, lowPriority.get(), "Terminating one event should not affect the rest of the batch.");
+    }
+
+    @Test
+    void expiringListenersAreHonouredWithinABatch() {
+        AtomicInteger count = new AtomicInteger();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, 2, event -> count.incrementAndGet()));
+
+        bus.dispatchAll(new Object[]{"a", "b", "c", "d"});
+
+        Assertions.assertEquals(2, count.get(), "A listener should not be invoked after it expires mid-batch.");
+    }
+
+    @Test
+    void invalidBatches() {
+        Assertions.assertThrows(NullPointerException.class, () -> bus.dispatchAll((Object[]) null));
+        Assertions.assertThrows(NullPointerException.class, () -> bus.dispatchAll(new Object[]{"a", null}));
+
+        bus.shutdown();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> bus.dispatchAll(new Object[]{"a"}));
+    }
+
+    @Test
+    void defaultImplementation() {
+        ConcurrentEventBus concurrentBus = new ConcurrentEventBus();
+        concurrentBus.register(new LambdaEventListener<ToggleEvent>(Target.fine(ToggleEvent.class), event -> event.setSuppressed(event.cancel)));
+
+        Assertions.assertEquals(1, concurrentBus.dispatchAll(List.of(new ToggleEvent(true), new ToggleEvent(false))));
+    }
+
+    static final class ToggleEvent extends StatusEvent {
+
+        private final boolean cancel;
+
+        ToggleEvent(boolean cancel) {
+            this.cancel = cancel;
+        }
+    }
+}
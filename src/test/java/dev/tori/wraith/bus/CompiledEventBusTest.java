@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.listener.EventListener;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listen;
+import dev.tori.wraith.subscriber.Subscriber;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class CompiledEventBusTest {
+
+    @Test
+    void invokesListenersInPriorityOrder() {
+        CompiledEventBus bus = new CompiledEventBus();
+        List<String> order = new ArrayList<>();
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), 0, event -> order.add("low")));
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), 10, event -> order.add("high")));
+        bus.register(new OrderListener(order, 5));
+
+        bus.prepare(MyEvent.class);
+        Assertions.assertTrue(bus.isCompiled(MyEvent.class));
+        bus.dispatch(new MyEvent());
+
+        Assertions.assertEquals(List.of("high", "middle", "low"), order);
+    }
+
+    @Test
+    void recompilesWhenListenersChange() {
+        CompiledEventBus bus = new CompiledEventBus();
+        List<String> order = new ArrayList<>();
+        Registration first = bus.registerWithHandle(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), 0, event -> order.add("first")));
+        dispatchUntilCompiled(bus);
+        Assertions.assertTrue(bus.isCompiled(MyEvent.class));
+
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), 1, event -> order.add("second")));
+        Assertions.assertFalse(bus.isCompiled(MyEvent.class));
+        dispatchUntilCompiled(bus);
+        Assertions.assertTrue(bus.isCompiled(MyEvent.class));
+
+        order.clear();
+        bus.dispatch(new MyEvent());
+        first.unregister();
+        bus.dispatch(new MyEvent());
+
+        Assertions.assertEquals(List.of("second", "first", "second"), order);
+    }
+
+    @Test
+    void compilesOnlyAfterStableDispatches() {
+        CompiledEventBus bus = new CompiledEventBus();
+        int[] received = new int[1];
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), event -> received[0]++));
+
+        for (int i = 0; i < CompiledEventBus.STABLE_DISPATCHES; i++) {
+            bus.dispatch(new MyEvent());
+            Assertions.assertFalse(bus.isCompiled(MyEvent.class));
+        }
+        bus.dispatch(new MyEvent());
+
+        Assertions.assertTrue(bus.isCompiled(MyEvent.class));
+        Assertions.assertEquals(CompiledEventBus.STABLE_DISPATCHES + 1, received[0]);
+    }
+
+    @Test
+    void chainsThatKeepChangingAreNotCompiled() {
+        CompiledEventBus bus = new CompiledEventBus();
+        int[] received = new int[1];
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), event -> received[0]++));
+
+        for (int i = 0; i < CompiledEventBus.STABLE_DISPATCHES * 4; i++) {
+            bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), i + 1, 1, event -> received[0]++));
+            bus.dispatch(new MyEvent());
+            Assertions.assertFalse(bus.isCompiled(MyEvent.class));
+        }
+
+        Assertions.assertEquals(CompiledEventBus.STABLE_DISPATCHES * 8, received[0]);
+    }
+
+    @Test
+    void prepareCompilesChains() {
+        CompiledEventBus bus = new CompiledEventBus();
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), event -> {
+        }));
+
+        bus.prepare(MyEvent.class, String.class);
+
+        Assertions.assertTrue(bus.isCompiled(MyEvent.class));
+        Assertions.assertFalse(bus.isCompiled(String.class), "Empty chains have nothing to compile.");
+    }
+
+    @Test
+    void stopsAtTerminatedEvent() {
+        CompiledEventBus bus = new CompiledEventBus();
+        List<String> order = new ArrayList<>();
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), 1, event -> {
+            order.add("terminator");
+            event.terminate();
+        }));
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), 0, event -> order.add("skipped")));
+        bus.prepare(MyEvent.class);
+
+        Assertions.assertTrue(bus.dispatch(new MyEvent()));
+        Assertions.assertEquals(List.of("terminator"), order);
+    }
+
+    @Test
+    void expiresListenersThatDoNotPersist() {
+        CompiledEventBus bus = new CompiledEventBus();
+        List<String> order = new ArrayList<>();
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), 1, 2, event -> order.add("twice")));
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), 0, event -> order.add("always")));
+        bus.prepare(MyEvent.class);
+
+        for (int i = 0; i < 3; i++) {
+            bus.dispatch(new MyEvent());
+        }
+
+        Assertions.assertEquals(List.of("twice", "always", "twice", "always", "always"), order);
+        Assertions.assertEquals(1, bus.getListeners().size());
+    }
+
+    @Test
+    void targetedDispatchIsNotCompiled() {
+        CompiledEventBus bus = new CompiledEventBus();
+        List<String> order = new ArrayList<>();
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), 0, event -> order.add("lambda")));
+        bus.register(new OrderListener(order, 0));
+
+        bus.dispatch(new MyEvent(), Target.fine(OrderListener.class));
+        Assertions.assertFalse(bus.isCompiled(MyEvent.class));
+
+        bus.dispatch(new MyEvent(), true);
+        Assertions.assertFalse(bus.isCompiled(MyEvent.class));
+
+        Assertions.assertEquals(List.of("middle", "middle", "lambda"), order);
+    }
+
+    @Test
+    void batchDispatchUsesCompiledChain() {
+        CompiledEventBus bus = new CompiledEventBus();
+        int[] received = new int[1];
+        bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), event -> {
+            if (++received[0] % 2 == 0) {
+                event.suppress();
+            }
+        }));
+
+        List<MyEvent> events = new ArrayList<>();
+        for (int i = 0; i < CompiledEventBus.STABLE_DISPATCHES * 2; i++) {
+            events.add(new MyEvent());
+        }
+
+        Assertions.assertEquals(CompiledEventBus.STABLE_DISPATCHES, bus.dispatchAll(events));
+        Assertions.assertTrue(bus.isCompiled(MyEvent.class));
+        Assertions.assertEquals(CompiledEventBus.STABLE_DISPATCHES * 2, received[0]);
+    }
+
+    @Test
+    void longChainsDoNotOverflowTheStack() {
+        CompiledEventBus bus = new CompiledEventBus();
+        int[] received = new int[1];
+        for (int i = 0; i < 10_000; i++) {
+            bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), i, event -> received[0]++));
+        }
+
+        bus.prepare(MyEvent.class);
+        Assertions.assertTrue(bus.isCompiled(MyEvent.class));
+        bus.dispatch(new MyEvent());
+
+        Assertions.assertEquals(10_000, received[0]);
+    }
+
+    @Test
+    void stopsAtTerminatedEventBetweenSegments() {
+        CompiledEventBus bus = new CompiledEventBus();
+        int[] received = new int[1];
+        int length = CompiledEventBus.SEGMENT_LENGTH * 2;
+        for (int i = 0; i < length; i++) {
+            bus.register(new LambdaEventListener<MyEvent>(Target.fine(MyEvent.class), length - i, event -> {
+                if (++received[0] == CompiledEventBus.SEGMENT_LENGTH) {
+                    event.terminate();
+                }
+            }));
+        }
+        bus.prepare(MyEvent.class);
+
+        Assertions.assertTrue(bus.dispatch(new MyEvent()));
+        Assertions.assertEquals(CompiledEventBus.SEGMENT_LENGTH, received[0]);
+    }
+
+    @Test
+    void compilesSubscriberListeners() {
+        CompiledEventBus bus = new CompiledEventBus();
+        CountingSubscriber subscriber = new CountingSubscriber();
+        bus.subscribe(subscriber);
+        bus.prepare(MyEvent.class);
+
+        Assertions.assertTrue(bus.isCompiled(MyEvent.class));
+        Assertions.assertTrue(bus.dispatch(new MyEvent()));
+        Assertions.assertEquals(List.of("high", "low"), subscriber.order);
+    }
+
+    private static void dispatchUntilCompiled(CompiledEventBus bus) {
+        for (int i = 0; i <= CompiledEventBus.STABLE_DISPATCHES; i++) {
+            bus.dispatch(new MyEvent());
+        }
+    }
+
+    static final class OrderListener extends EventListener<MyEvent> {
+
+        private final List<String> order;
+
+        OrderListener(List<String> order, int priority) {
+            super(Target.fine(MyEvent.class), priority);
+            this.order = order;
+        }
+
+        @Override
+        public void invoke(MyEvent event) {
+            order.add("middle");
+        }
+    }
+
+    public static final class CountingSubscriber extends Subscriber {
+
+        private final List<String> order = new ArrayList<>();
+
+        @Listen(priority = 1)
+        public void onHigh(MyEvent event) {
+            order.add("high");
+        }
+
+        @Listen
+        public void onLow(MyEvent event) {
+            order.add("low");
+            event.suppress();
+        }
+    }
+
+    static final class MyEvent extends StatusEvent {
+    }
+}
\ No newline at end of file
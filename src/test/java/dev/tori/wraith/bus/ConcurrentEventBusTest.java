@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.subscriber.Subscriber;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link ConcurrentEventBus}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class ConcurrentEventBusTest {
+
+    private ConcurrentEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new ConcurrentEventBus();
+    }
+
+    @Test
+    void registerAndUnregister() {
+        LambdaEventListener<StatusEvent> listener = new LambdaEventListener<>(Target.fine(StatusEvent.class), IStatusEvent::terminate);
+
+        bus.register(listener);
+        bus.register(listener);
+        Assertions.assertEquals(1, bus.getListeners().size(), "Registering the same listener twice should not duplicate it.");
+        Assertions.assertTrue(bus.dispatch(new StatusEvent()));
+
+        bus.unregister(listener);
+        Assertions.assertTrue(bus.getListeners().isEmpty(), "The event bus should be empty after its only listener is unregistered.");
+        Assertions.assertFalse(bus.dispatch(new StatusEvent()));
+
+        Assertions.assertThrows(NullPointerException.class, () -> bus.register(null));
+        Assertions.assertThrows(NullPointerException.class, () -> bus.unregister(null));
+        Assertions.assertThrows(NullPointerException.class, () -> bus.dispatch(null));
+    }
+
+    @Test
+    void listenersAreKeptInPriorityOrder() {
+        List<Integer> invoked = new ArrayList<>();
+        bus.subscribe(new Subscriber() {{
+            registerListeners(
+                    new LambdaEventListener<>(Target.fine(String.class), 0, event -> invoked.add(0)),
+                    new LambdaEventListener<>(Target.fine(String.class), 10, event -> invoked.add(10)),
+                    new LambdaEventListener<>(Target.cascade(CharSequence.class), 5, event -> invoked.add(5)),
+                    new LambdaEventListener<>(Target.fine(String.class), -10, event -> invoked.add(-10))
+            );
+        }});
+
+        bus.dispatch("");
+        Assertions.assertEquals(List.of(10, 5, 0, -10), invoked);
+
+        List<Integer> priorities = bus.getListeners().stream().map(Listener::getPriority).toList();
+        Assertions.assertEquals(List.of(10, 5, 0, -10), priorities);
+    }
+
+    @Test
+    void emptyBusesDoNotShareChainCaches() {
+        ConcurrentEventBus other = new ConcurrentEventBus();
+        other.dispatch("event");
+        other.hasListeners(Integer.class);
+        Assertions.assertEquals(2, other.getCachedChainCount());
+
+        Assertions.assertEquals(0, bus.getCachedChainCount(), "A new event bus should not see another bus' chains.");
+        bus.register(new LambdaEventListener<>(Target.fine(StatusEvent.class), event -> {
+        }));
+        Assertions.assertEquals(0, bus.getCachedChainCount(), "Another bus' chains should not be copied on registration.");
+    }
+
+    @Test
+    void finitePersistence() {
+        AtomicInteger count = new AtomicInteger();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, 3, event -> count.incrementAndGet()));
+
+        for (int i = 0; i < 5; i++) {
+            bus.dispatch("");
+        }
+        Assertions.assertEquals(3, count.get());
+        Assertions.assertTrue(bus.getListeners().isEmpty());
+    }
+
+    @Test
+    void concurrentDispatchAndRegistration() throws Exception {
+        final int producers = 8;
+        final int dispatches = 20_000;
+        final AtomicInteger stableCount = new AtomicInteger();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), event -> stableCount.incrementAndGet()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < dispatches; i++) {
+                        bus.dispatch("event");
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2_000; i++) {
+                    Listener<Object> churn = new LambdaEventListener<>(Target.fine(String.class), i % 7, event -> {
+                    });
+                    bus.register(churn);
+                    bus.unregister(churn);
+                }
+                return null;
+            }));
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(producers * dispatches, stableCount.get(), "The stable listener should see every event exactly once.");
+        Assertions.assertEquals(1, bus.getListeners().size(), "Only the stable listener should remain registered.");
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listen;
+import dev.tori.wraith.subscriber.Subscriber;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Verifies that dispatching a pre-allocated event does not allocate once the event bus has warmed up.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class DispatchAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int EVENTS = 100_000;
+    /**
+     * Tolerates a few incidental allocations, such as the JIT installing compiled code or the measurement itself,
+     * while still failing if any allocation happens once per event.
+     */
+    private static final long TOLERANCE_BYTES = 4_096;
+
+    @Test
+    void steadyStateDispatchDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+
+        for (IEventBus bus : List.of(new EventBus(), new ConcurrentEventBus(), new LightweightEventBus())) {
+            Counter counter = new Counter();
+            bus.register(new LambdaEventListener<CountEvent>(Target.fine(CountEvent.class), event -> event.count++));
+            bus.subscribe(counter);
+            CountEvent event = new CountEvent();
+            String name = bus.getClass().getSimpleName();
+
+            dispatch(bus, event, WARMUP);
+            long before = threads.getCurrentThreadAllocatedBytes();
+            dispatch(bus, event, EVENTS);
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+            Assertions.assertEquals(2 * (WARMUP + EVENTS), event.count, name);
+            Assertions.assertEquals(2 * (WARMUP + EVENTS), counter.count, name);
+            Assertions.assertTrue(allocated < TOLERANCE_BYTES,
+                    name + " allocated " + allocated + " bytes over " + (2 * EVENTS) + " dispatches.");
+        }
+    }
+
+    private static void dispatch(IEventBus bus, CountEvent event, int times) {
+        for (int i = 0; i < times; i++) {
+            bus.dispatch(event);
+            bus.dispatch(event, true);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Thread allocation accounting is not available on this JVM.");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(),
+                "Thread allocation accounting is not supported on this JVM.");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    static final class CountEvent extends StatusEvent {
+
+        private int count;
+    }
+
+    public static final class Counter extends Subscriber {
+
+        private int count;
+
+        @Listen
+        public void onEvent(CountEvent event) {
+            count++;
+        }
+    }
+}
\ No newline at end of file
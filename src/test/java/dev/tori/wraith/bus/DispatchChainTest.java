@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link EventBus}'s per-class dispatch chains.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class DispatchChainTest {
+
+    private EventBus bus;
+    private List<String> invoked;
+
+    @BeforeEach
+    void setUp() {
+        bus = new EventBus();
+        invoked = new ArrayList<>();
+    }
+
+    @Test
+    void chainOnlyContainsMatchingListeners() {
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), event -> invoked.add("fineA")));
+        bus.register(new LambdaEventListener<>(Target.fine(EventB.class), event -> invoked.add("fineB")));
+        bus.register(new LambdaEventListener<>(Target.cascade(EventA.class), event -> invoked.add("cascadeA")));
+        bus.register(new LambdaEventListener<>(Target.all(), event -> invoked.add("all")));
+
+        Assertions.assertEquals(3, bus.getDispatchChain(EventA.class).length, "EventA should be targeted by fine, cascade, and global listeners.");
+        Assertions.assertEquals(3, bus.getDispatchChain(EventB.class).length, "EventB should be targeted by fine, cascading, and global listeners.");
+        Assertions.assertEquals(1, bus.getDispatchChain(String.class).length, "Unrelated classes should only be targeted by global listeners.");
+
+        bus.dispatch(new EventB());
+        Assertions.assertEquals(List.of("fineB", "cascadeA", "all"), invoked);
+    }
+
+    @Test
+    void chainIsOrderedByPriority() {
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), -5, event -> invoked.add("low")));
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), 5, event -> invoked.add("high")));
+        bus.register(new LambdaEventListener<>(Target.cascade(Object.class), 0, event -> invoked.add("normal")));
+
+        bus.dispatch(new EventA());
+        Assertions.assertEquals(List.of("high", "normal", "low"), invoked);
+
+        invoked.clear();
+        bus.dispatch(new EventA(), true);
+        Assertions.assertEquals(List.of("low", "normal", "high"), invoked);
+    }
+
+    @Test
+    void registrationOnlyInvalidatesAffectedChains() {
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), event -> invoked.add("fineA")));
+        Listener[] chainA = bus.getDispatchChain(EventA.class);
+        Listener[] chainB = bus.getDispatchChain(EventB.class);
+        Listener[] chainString = bus.getDispatchChain(String.class);
+
+        bus.register(new LambdaEventListener<>(Target.fine(EventB.class), event -> invoked.add("fineB")));
+        Assertions.assertSame(chainA, bus.getDispatchChain(EventA.class), "Registering a FINE listener for EventB should not invalidate EventA's chain.");
+        Assertions.assertSame(chainString, bus.getDispatchChain(String.class), "Registering a FINE listener for EventB should not invalidate unrelated chains.");
+        Assertions.assertNotSame(chainB, bus.getDispatchChain(EventB.class), "Registering a FINE listener for EventB should invalidate EventB's chain.");
+
+        chainA = bus.getDispatchChain(EventA.class);
+        chainB = bus.getDispatchChain(EventB.class);
+        LambdaEventListener<Object> cascading = new LambdaEventListener<>(Target.cascade(EventA.class), event -> invoked.add("cascadeA"));
+        bus.register(cascading);
+        Assertions.assertNotSame(chainA, bus.getDispatchChain(EventA.class), "Registering a CASCADE listener for EventA should invalidate EventA's chain.");
+        Assertions.assertNotSame(chainB, bus.getDispatchChain(EventB.class), "Registering a CASCADE listener for EventA should invalidate subclass chains.");
+        Assertions.assertSame(chainString, bus.getDispatchChain(String.class), "Registering a CASCADE listener for EventA should not invalidate unrelated chains.");
+
+        bus.unregister(cascading);
+        bus.dispatch(new EventB());
+        Assertions.assertEquals(List.of("fineB"), invoked, "Unregistered listeners should not be invoked.");
+    }
+
+    @Test
+    void registrationKeepsPriorityOrderWithoutSorting() {
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), 0, event -> invoked.add("first0")));
+        bus.dispatch(new EventA());
+        invoked.clear();
+
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), 10, event -> invoked.add("10")));
+        bus.register(new LambdaEventListener<>(Target.cascade(EventA.class), 0, event -> invoked.add("second0")));
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), -10, event -> invoked.add("-10")));
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), 5, event -> invoked.add("5")));
+
+        bus.dispatch(new EventA());
+        Assertions.assertEquals(List.of("10", "5", "first0", "second0", "-10"), invoked, "Equal priorities should keep registration order.");
+        Assertions.assertEquals(List.of(10, 5, 0, 0, -10), bus.getListeners().stream().map(Listener::getPriority).toList());
+        Assertions.assertTrue(bus.isSorted());
+    }
+
+    @Test
+    void expiredListenersAreRemovedFromChains() {
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), 0, 1, event -> invoked.add("once")));
+
+        bus.dispatch(new EventA());
+        bus.dispatch(new EventA());
+
+        Assertions.assertEquals(List.of("once"), invoked);
+        Assertions.assertEquals(0, bus.getDispatchChain(EventA.class).length);
+    }
+
+    @Test
+    void expiredListenersAreRemovedTogetherAfterDispatch() {
+        for (int i = 0; i < 100; i++) {
+            bus.register(new LambdaEventListener<>(Target.fine(EventA.class), i, 1, event -> invoked.add("once")));
+        }
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), -1, event -> invoked.add("always")));
+        bus.getDispatchChain(EventA.class);
+
+        bus.dispatch(new EventA());
+        Assertions.assertEquals(101, invoked.size());
+        Assertions.assertEquals(1, bus.getListeners().size());
+        Assertions.assertEquals(1, bus.getDispatchChain(EventA.class).length);
+
+        invoked.clear();
+        bus.dispatch(new EventA());
+        Assertions.assertEquals(List.of("always"), invoked);
+    }
+
+    @Test
+    void expiredListenersOnlyFilterChainsTheyTarget() {
+        for (int i = 0; i < 4; i++) {
+            bus.register(new LambdaEventListener<>(Target.fine(EventA.class), i, 1, event -> invoked.add("once")));
+        }
+        bus.register(new LambdaEventListener<>(Target.fine(EventB.class), event -> invoked.add("b")));
+        Listener[] chainB = bus.getDispatchChain(EventB.class);
+
+        bus.dispatch(new EventA());
+
+        Assertions.assertEquals(0, bus.getDispatchChain(EventA.class).length);
+        Assertions.assertSame(chainB, bus.getDispatchChain(EventB.class), "Expiring EventA listeners should not filter the EventB chain.");
+    }
+
+    @Test
+    void expiredListenersAreCompactedPastAThreshold() {
+        for (int i = 0; i < 64; i++) {
+            bus.register(new LambdaEventListener<>(Target.fine(EventA.class), i, event -> invoked.add("always")));
+        }
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), 100, 1, event -> invoked.add("once")));
+        Listener[] chain = bus.getDispatchChain(EventA.class);
+
+        bus.dispatch(new EventA());
+        Assertions.assertSame(chain, bus.getDispatchChain(EventA.class), "A single expiry should not compact a large chain.");
+        Assertions.assertFalse(bus.hasListeners(EventB.class));
+
+        invoked.clear();
+        bus.dispatch(new EventA());
+        Assertions.assertEquals(64, invoked.size());
+        Assertions.assertFalse(invoked.contains("once"));
+
+        for (int i = 0; i < 5; i++) {
+            bus.register(new LambdaEventListener<>(Target.fine(EventA.class), 200 + i, 1, event -> {
+            }));
+        }
+        bus.dispatch(new EventA());
+        Assertions.assertEquals(64, bus.getDispatchChain(EventA.class).length, "Five expiries out of 69 listeners should compact the chain.");
+        Assertions.assertEquals(64, bus.getListeners().size());
+    }
+
+    @Test
+    void expiredListenersAreSkippedByNestedDispatch() {
+        bus.register(new LambdaEventListener<>(Target.fine(EventA.class), 1, 1, event -> invoked.add("once")));
+        bus.register(new LambdaEventListener<EventA>(Target.fine(EventA.class), 0, event -> {
+            invoked.add("nested");
+            if (invoked.size() == 2) {
+                bus.dispatch(new EventA());
+            }
+        }));
+
+        bus.dispatch(new EventA());
+        Assertions.assertEquals(List.of("once", "nested", "nested"), invoked);
+        Assertions.assertEquals(1, bus.getListeners().size());
+    }
+
+    @Test
+    void listenersThatCannotReportExpiryAreUnregisteredImmediately() {
+        bus.register(new OneShotListener());
+        bus.dispatch(new EventA());
+        Assertions.assertTrue(bus.getListeners().isEmpty());
+        Assertions.assertEquals(0, bus.getDispatchChain(EventA.class).length);
+    }
+
+    private final class OneShotListener implements Listener<EventA> {
+
+        @Override
+        public void invoke(EventA event) {
+            invoked.add("custom");
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public Target getTarget() {
+            return Target.fine(EventA.class);
+        }
+
+        @Override
+        public boolean shouldPersist() {
+            return false;
+        }
+    }
+
+    static class EventA {
+
+    }
+
+    static class EventB extends EventA {
+
+    }
+}
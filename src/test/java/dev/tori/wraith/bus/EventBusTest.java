@@ -51,7 +51,7 @@ class EventBusTest {
 
         eventBus.register(new LambdaEventListener<>(Target.all(), 0, 1, System.out::println));
 
-        Assertions.assertFalse(eventBus.isSorted(), "The event bus should not be sorted initially or after listener registration.");
+        Assertions.assertTrue(eventBus.isSorted(), "The event bus should keep its listeners sorted as they are registered.");
         Assertions.assertFalse(eventBus.getListeners().isEmpty(), "The event bus should not have an empty listener set after listener registration.");
         Assertions.assertEquals(1, eventBus.getListeners().size(), "The event bus should have a single listener after a single listener is registered.");
 
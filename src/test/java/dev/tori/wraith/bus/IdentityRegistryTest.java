@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.Invokable;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link EventBus.RegistryMode}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class IdentityRegistryTest {
+
+    @Test
+    void equalityModeDeduplicatesEqualListeners() {
+        AtomicInteger invoked = new AtomicInteger();
+        Invokable<String> invokable = event -> invoked.incrementAndGet();
+        EventBus bus = new EventBus();
+
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), invokable));
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), invokable));
+        bus.dispatch("event");
+
+        Assertions.assertEquals(EventBus.RegistryMode.EQUALITY, bus.getRegistryMode());
+        Assertions.assertEquals(1, bus.getListeners().size());
+        Assertions.assertEquals(1, invoked.get());
+    }
+
+    @Test
+    void identityModeKeepsEqualListenersDistinct() {
+        AtomicInteger invoked = new AtomicInteger();
+        Invokable<String> invokable = event -> invoked.incrementAndGet();
+        EventBus bus = new EventBus(EventBus.RegistryMode.IDENTITY);
+        Listener<String> first = new LambdaEventListener<>(Target.fine(String.class), invokable);
+        Listener<String> second = new LambdaEventListener<>(Target.fine(String.class), invokable);
+
+        bus.register(first);
+        bus.register(second);
+        bus.register(first);
+        bus.dispatch("event");
+
+        Assertions.assertEquals(2, bus.getListeners().size());
+        Assertions.assertEquals(2, invoked.get());
+
+        bus.unregister(second);
+        bus.dispatch("event");
+
+        Assertions.assertEquals(1, bus.getListeners().size());
+        Assertions.assertSame(first, bus.getListeners().get(0));
+        Assertions.assertEquals(3, invoked.get());
+    }
+
+    @Test
+    void identityModeNeverCallsEquals() {
+        EventBus bus = new EventBus(EventBus.RegistryMode.IDENTITY);
+        Registration registration = bus.registerWithHandle(new LambdaEventListener<String>(Target.fine(String.class), event -> {
+        }) {
+            @Override
+            public boolean equals(Object obj) {
+                throw new AssertionError("equals called");
+            }
+
+            @Override
+            public int hashCode() {
+                throw new AssertionError("hashCode called");
+            }
+        });
+        bus.dispatch("event");
+        registration.unregister();
+
+        Assertions.assertTrue(bus.getListeners().isEmpty());
+    }
+}
\ No newline at end of file
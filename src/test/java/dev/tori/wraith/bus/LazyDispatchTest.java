@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.subscriber.ISubscriber;
+import dev.tori.wraith.task.ScheduledTask;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link IEventBus#hasListeners(Class)} and {@link IEventBus#dispatchLazily(Class, java.util.function.Supplier)}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class LazyDispatchTest {
+
+    @Test
+    void hasListenersFollowsRegistrations() {
+        for (IEventBus bus : List.of(new EventBus(), new ConcurrentEventBus(), new StripedEventBus())) {
+            String name = bus.getClass().getSimpleName();
+            Assertions.assertFalse(bus.hasListeners(ChildEvent.class), name);
+
+            Registration fine = bus.registerWithHandle(new LambdaEventListener<ParentEvent>(Target.fine(ParentEvent.class), event -> {
+            }));
+            Assertions.assertTrue(bus.hasListeners(ParentEvent.class), name);
+            Assertions.assertFalse(bus.hasListeners(ChildEvent.class), name);
+
+            Registration cascade = bus.registerWithHandle(new LambdaEventListener<ParentEvent>(Target.cascade(ParentEvent.class), event -> {
+            }));
+            Assertions.assertTrue(bus.hasListeners(ChildEvent.class), name);
+
+            fine.unregister();
+            cascade.unregister();
+            Assertions.assertFalse(bus.hasListeners(ParentEvent.class), name);
+            Assertions.assertFalse(bus.hasListeners(ChildEvent.class), name);
+        }
+    }
+
+    @Test
+    void supplierIsOnlyCalledWhenListened() {
+        for (IEventBus bus : List.of(new EventBus(), new ConcurrentEventBus(), new StripedEventBus())) {
+            String name = bus.getClass().getSimpleName();
+            AtomicInteger built = new AtomicInteger();
+            AtomicInteger received = new AtomicInteger();
+
+            bus.dispatchLazily(ChildEvent.class, () -> {
+                built.incrementAndGet();
+                return new ChildEvent();
+            });
+            Assertions.assertEquals(0, built.get(), name);
+
+            bus.register(new LambdaEventListener<ParentEvent>(Target.cascade(ParentEvent.class), event -> received.incrementAndGet()));
+            bus.dispatchLazily(ChildEvent.class, () -> {
+                built.incrementAndGet();
+                return new ChildEvent();
+            });
+            Assertions.assertEquals(1, built.get(), name);
+            Assertions.assertEquals(1, received.get(), name);
+        }
+    }
+
+    @Test
+    void supplierIsCalledForScheduledTasks() {
+        EventBus bus = new EventBus();
+        AtomicInteger ran = new AtomicInteger();
+        bus.scheduleTask(new ScheduledTask(ChildEvent.class) {
+            @Override
+            public void run() {
+                ran.incrementAndGet();
+            }
+        });
+
+        bus.dispatchLazily(ChildEvent.class, ChildEvent::new);
+
+        Assertions.assertEquals(1, ran.get());
+    }
+
+    @Test
+    void supplierDispatchRejectsShutdownBus() {
+        EventBus bus = new EventBus();
+        bus.shutdown();
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> bus.dispatchLazily(ChildEvent.class, ChildEvent::new));
+    }
+
+    @Test
+    void busesWithoutHasListenersDispatchEveryEvent() {
+        DelegatingEventBus bus = new DelegatingEventBus(new EventBus());
+        AtomicInteger built = new AtomicInteger();
+
+        Assertions.assertTrue(bus.hasListeners(ChildEvent.class));
+        bus.dispatchLazily(ChildEvent.class, () -> {
+            built.incrementAndGet();
+            return new ChildEvent();
+        });
+        bus.prepare(ChildEvent.class);
+
+        Assertions.assertEquals(1, built.get());
+    }
+
+    /**
+     * An event bus written against the interface before {@link IEventBus#hasListeners(Class)} was added.
+     */
+    private static final class DelegatingEventBus implements IEventBus {
+
+        private final IEventBus delegate;
+
+        private DelegatingEventBus(IEventBus delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void subscribe(ISubscriber subscriber) {
+            delegate.subscribe(subscriber);
+        }
+
+        @Override
+        public void unsubscribe(ISubscriber subscriber) {
+            delegate.unsubscribe(subscriber);
+        }
+
+        @Override
+        public void register(Listener<?> listener) {
+            delegate.register(listener);
+        }
+
+        @Override
+        public void unregister(Listener<?> listener) {
+            delegate.unregister(listener);
+        }
+
+        @Override
+        public boolean dispatch(Object event) {
+            return delegate.dispatch(event);
+        }
+
+        @Override
+        public boolean dispatch(Object event, Target target) {
+            return delegate.dispatch(event, target);
+        }
+
+        @Override
+        public boolean dispatch(Object event, boolean invertPriority) {
+            return delegate.dispatch(event, invertPriority);
+        }
+
+        @Override
+        public boolean dispatch(Object event, Target target, boolean invertPriority) {
+            return delegate.dispatch(event, target, invertPriority);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+    }
+
+    static class ParentEvent {
+
+    }
+
+    static final class ChildEvent extends ParentEvent {
+
+    }
+}
\ No newline at end of file
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.listener.EventListener;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listen;
+import dev.tori.wraith.subscriber.Subscriber;
+import dev.tori.wraith.task.ScheduledTask;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link LightweightEventBus}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class LightweightEventBusTest {
+
+    private static final int BUSES = 10_000;
+
+    private LightweightEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new LightweightEventBus();
+    }
+
+    @Test
+    void registerAndUnregister() {
+        LambdaEventListener<StatusEvent> listener = new LambdaEventListener<>(Target.fine(StatusEvent.class), IStatusEvent::terminate);
+
+        Registration registration = bus.registerWithHandle(listener);
+        bus.register(listener);
+        Assertions.assertEquals(1, bus.getListeners().size(), "Registering the same listener twice should not duplicate it.");
+        Assertions.assertTrue(bus.hasListeners(StatusEvent.class));
+        Assertions.assertTrue(bus.dispatch(new StatusEvent()));
+
+        registration.unregister();
+        Assertions.assertTrue(bus.getListeners().isEmpty(), "The event bus should be empty after its only listener is unregistered.");
+        Assertions.assertFalse(bus.hasListeners(StatusEvent.class));
+        Assertions.assertFalse(bus.dispatch(new StatusEvent()));
+    }
+
+    @Test
+    void listenersAreInvokedInPriorityOrder() {
+        List<String> invoked = new ArrayList<>();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, event -> invoked.add("fine0")));
+        bus.register(new LambdaEventListener<>(Target.cascade(CharSequence.class), 0, event -> invoked.add("cascade0")));
+        bus.register(new LambdaEventListener<>(Target.all(), 5, event -> invoked.add("all5")));
+        bus.register(new LambdaEventListener<>(Target.fine(Integer.class), 10, event -> invoked.add("integer")));
+
+        bus.dispatch("");
+        Assertions.assertEquals(List.of("all5", "fine0", "cascade0"), invoked);
+
+        invoked.clear();
+        bus.dispatch("", true);
+        Assertions.assertEquals(List.of("cascade0", "fine0", "all5"), invoked);
+    }
+
+    @Test
+    void targetedDispatchOnlyInvokesMatchingListeners() {
+        List<String> invoked = new ArrayList<>();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), event -> invoked.add("lambda")));
+        bus.register(new StringListener(invoked));
+
+        bus.dispatch("", Target.fine(StringListener.class));
+
+        Assertions.assertEquals(List.of("listener"), invoked);
+    }
+
+    @Test
+    void terminationAndPersistence() {
+        List<String> invoked = new ArrayList<>();
+        bus.register(new LambdaEventListener<StatusEvent>(Target.fine(StatusEvent.class), 2, 1, event -> invoked.add("once")));
+        bus.register(new LambdaEventListener<StatusEvent>(Target.fine(StatusEvent.class), 1, event -> {
+            invoked.add("terminator");
+            event.terminate();
+        }));
+        bus.register(new LambdaEventListener<StatusEvent>(Target.fine(StatusEvent.class), 0, event -> invoked.add("skipped")));
+
+        Assertions.assertTrue(bus.dispatch(new StatusEvent()));
+        Assertions.assertTrue(bus.dispatch(new StatusEvent()));
+
+        Assertions.assertEquals(List.of("once", "terminator", "terminator"), invoked);
+        Assertions.assertEquals(2, bus.getListeners().size());
+    }
+
+    @Test
+    void subscribeAndUnsubscribe() {
+        Counter first = new Counter();
+        Counter second = new Counter();
+        bus.subscribe(first);
+        bus.subscribe(second);
+        bus.subscribe(new Counter());
+        Assertions.assertEquals(3, bus.getSubscribers().size());
+
+        LambdaEventListener<StatusEvent> late = first.registerListener(new LambdaEventListener<>(Target.fine(StatusEvent.class), event -> first.count++));
+        Assertions.assertTrue(bus.getListeners().contains(late), "Listeners registered after subscribing should reach linked buses.");
+
+        bus.dispatch(new StatusEvent());
+        Assertions.assertEquals(2, first.count);
+        Assertions.assertEquals(1, second.count);
+
+        bus.unsubscribe(first);
+        bus.dispatch(new StatusEvent());
+        Assertions.assertEquals(2, first.count);
+        Assertions.assertEquals(2, second.count);
+        Assertions.assertEquals(2, bus.getSubscribers().size());
+        Assertions.assertFalse(bus.getListeners().contains(late));
+    }
+
+    @Test
+    void scheduledTasksRunAndEnableLazyDispatch() {
+        AtomicInteger ran = new AtomicInteger();
+        AtomicInteger built = new AtomicInteger();
+        Assertions.assertFalse(bus.dispatchLazily(StatusEvent.class, () -> {
+            built.incrementAndGet();
+            return new StatusEvent();
+        }));
+
+        bus.scheduleTask(new ScheduledTask(StatusEvent.class) {
+            @Override
+            public void run() {
+                ran.incrementAndGet();
+            }
+        });
+        bus.dispatchLazily(StatusEvent.class, () -> {
+            built.incrementAndGet();
+            return new StatusEvent();
+        });
+
+        Assertions.assertEquals(1, built.get());
+        Assertions.assertEquals(1, ran.get());
+    }
+
+    @Test
+    void shutdownRejectsDispatch() {
+        bus.shutdown();
+
+        Assertions.assertTrue(bus.isShutdown());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> bus.dispatch(new Object()));
+        Assertions.assertThrows(NullPointerException.class, () -> bus.register(null));
+    }
+
+    @Test
+    void emptyBusesAreSmallerThanEventBuses() {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Thread allocation accounting is not available on this JVM.");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(),
+                "Thread allocation accounting is not supported on this JVM.");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        IEventBus[] buses = new IEventBus[BUSES];
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < BUSES; i++) {
+            buses[i] = new LightweightEventBus();
+        }
+        long lightweight = (threads.getCurrentThreadAllocatedBytes() - before) / BUSES;
+
+        before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < BUSES; i++) {
+            buses[i] = new EventBus();
+        }
+        long eventBus = (threads.getCurrentThreadAllocatedBytes() - before) / BUSES;
+
+        Assertions.assertTrue(lightweight <= 64, "An empty LightweightEventBus allocated " + lightweight + " bytes.");
+        Assertions.assertTrue(lightweight < eventBus, lightweight + " bytes should be less than EventBus' " + eventBus + " bytes.");
+    }
+
+    static final class StringListener extends EventListener<String> {
+
+        private final List<String> invoked;
+
+        StringListener(List<String> invoked) {
+            super(Target.fine(String.class), 0);
+            this.invoked = invoked;
+        }
+
+        @Override
+        public void invoke(String event) {
+            invoked.add("listener");
+        }
+    }
+
+    public static final class Counter extends Subscriber {
+
+        private int count;
+
+        @Listen
+        public void onEvent(StatusEvent event) {
+            count++;
+        }
+    }
+}
\ No newline at end of file
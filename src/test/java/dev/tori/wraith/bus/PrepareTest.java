@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link IEventBus#prepare(Class[])} and {@link IEventBus#prepareAsync(java.util.concurrent.Executor, Class[])}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class PrepareTest {
+
+    @Test
+    void prepareCachesDispatchChains() {
+        EventBus bus = new EventBus();
+        Listener<EventA> listener = new LambdaEventListener<>(Target.cascade(EventA.class), event -> {
+        });
+        bus.register(listener);
+
+        Duration took = bus.prepare(EventA.class, EventB.class);
+        Listener[] chain = bus.getDispatchChain(EventB.class);
+
+        Assertions.assertFalse(took.isNegative());
+        Assertions.assertSame(chain, bus.getDispatchChain(EventB.class), "A prepared chain should be served from the cache.");
+        Assertions.assertArrayEquals(new Listener[]{listener}, chain);
+    }
+
+    @Test
+    void preparedBusesDispatchNormally() {
+        for (IEventBus bus : List.of(new EventBus(), new ConcurrentEventBus(), new StripedEventBus())) {
+            AtomicInteger received = new AtomicInteger();
+            bus.register(new LambdaEventListener<EventA>(Target.cascade(EventA.class), event -> received.incrementAndGet()));
+
+            bus.prepare(EventA.class, EventB.class, String.class);
+            bus.dispatch(new EventB());
+            bus.dispatch("unrelated");
+
+            Assertions.assertEquals(1, received.get(), bus.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void prepareAsyncCompletes() throws Exception {
+        ConcurrentEventBus bus = new ConcurrentEventBus();
+        bus.register(new LambdaEventListener<EventA>(Target.fine(EventA.class), event -> {
+        }));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Duration took = bus.prepareAsync(executor, EventA.class, EventB.class).get(5, TimeUnit.SECONDS);
+
+            Assertions.assertFalse(took.isNegative());
+            Assertions.assertTrue(bus.hasListeners(EventA.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void prepareRejectsNullTypes() {
+        EventBus bus = new EventBus();
+
+        Assertions.assertThrows(NullPointerException.class, () -> bus.prepare((Class<?>[]) null));
+        Assertions.assertThrows(NullPointerException.class, () -> bus.prepare(EventA.class, null));
+    }
+
+    static class EventA {
+
+    }
+
+    static final class EventB extends EventA {
+
+    }
+}
\ No newline at end of file
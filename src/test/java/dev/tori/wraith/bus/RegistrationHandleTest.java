@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.subscriber.Subscriber;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link Registration} handles.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class RegistrationHandleTest {
+
+    @Test
+    void handleUnregistersItsListener() {
+        for (IEventBus bus : List.of(new EventBus(), new ConcurrentEventBus(), new StripedEventBus())) {
+            AtomicInteger invoked = new AtomicInteger();
+            Listener<String> listener = new LambdaEventListener<>(Target.fine(String.class), event -> invoked.incrementAndGet());
+            Registration registration = bus.registerWithHandle(listener);
+            Assertions.assertSame(listener, registration.getListener());
+            Assertions.assertTrue(registration.isActive());
+
+            bus.dispatch("event");
+            registration.unregister();
+            registration.unregister();
+            bus.dispatch("event");
+
+            Assertions.assertFalse(registration.isActive());
+            Assertions.assertEquals(1, invoked.get(), bus.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void handleClosesWithTryWithResources() {
+        EventBus bus = new EventBus();
+        try (Registration ignored = bus.registerWithHandle(new LambdaEventListener<>(Target.fine(String.class), event -> {
+        }))) {
+            Assertions.assertEquals(1, bus.getListeners().size());
+        }
+        Assertions.assertTrue(bus.getListeners().isEmpty());
+    }
+
+    @Test
+    void manyUnregistrationsAreRemovedTogether() {
+        EventBus bus = new EventBus();
+        List<Registration> registrations = new ArrayList<>();
+        List<String> invoked = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int priority = i;
+            registrations.add(bus.registerWithHandle(new LambdaEventListener<>(Target.fine(String.class), priority, event -> invoked.add("removed" + priority))));
+        }
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), -1, event -> invoked.add("kept")));
+        bus.dispatch("warm");
+        invoked.clear();
+
+        registrations.forEach(Registration::unregister);
+        bus.dispatch("event");
+
+        Assertions.assertEquals(List.of("kept"), invoked);
+        Assertions.assertEquals(1, bus.getListeners().size());
+        Assertions.assertEquals(1, bus.getDispatchChain(String.class).length);
+    }
+
+    @Test
+    void reregisteringBeforeRemovalKeepsTheListener() {
+        EventBus bus = new EventBus();
+        Listener<String> listener = new LambdaEventListener<>(Target.fine(String.class), event -> {
+        });
+        bus.registerWithHandle(listener).unregister();
+        bus.register(listener);
+
+        Assertions.assertEquals(1, bus.getListeners().size());
+    }
+
+    @Test
+    void duplicateRegistrationReturnsInactiveHandle() {
+        for (IEventBus bus : List.of(new EventBus(), new ConcurrentEventBus(), new StripedEventBus(), new LightweightEventBus())) {
+            AtomicInteger invoked = new AtomicInteger();
+            Listener<String> listener = new LambdaEventListener<>(Target.fine(String.class), event -> invoked.incrementAndGet());
+            Registration first = bus.registerWithHandle(listener);
+            Registration duplicate = bus.registerWithHandle(listener);
+
+            Assertions.assertTrue(first.isActive());
+            Assertions.assertFalse(duplicate.isActive(), bus.getClass().getSimpleName());
+            duplicate.close();
+            bus.dispatch("event");
+
+            Assertions.assertEquals(1, invoked.get(), "Closing a duplicate handle should not unregister the listener.");
+        }
+    }
+
+    @Test
+    void unsubscribeRemovesListenersRegisteredBeforeSubscribing() {
+        EventBus bus = new EventBus();
+        Listener<String> listener = new LambdaEventListener<>(Target.fine(String.class), event -> {
+        });
+        bus.register(listener);
+        Subscriber subscriber = new Subscriber() {{
+            registerListener(listener);
+        }};
+        bus.subscribe(subscriber);
+        bus.unsubscribe(subscriber);
+
+        Assertions.assertTrue(bus.getListeners().isEmpty());
+    }
+
+    @Test
+    void unsubscribeRemovesEarlyAndLateListeners() {
+        EventBus bus = new EventBus();
+        AtomicInteger invoked = new AtomicInteger();
+        Subscriber subscriber = new Subscriber() {{
+            registerListener(new LambdaEventListener<>(Target.fine(String.class), 1, event -> invoked.incrementAndGet()));
+        }};
+        bus.subscribe(subscriber);
+        subscriber.registerListener(new LambdaEventListener<>(Target.fine(String.class), 2, event -> invoked.incrementAndGet()));
+
+        bus.dispatch("event");
+        Assertions.assertEquals(2, invoked.get());
+
+        bus.unsubscribe(subscriber);
+        bus.dispatch("event");
+        Assertions.assertEquals(2, invoked.get());
+        Assertions.assertTrue(bus.getListeners().isEmpty());
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link RingBufferEventBus}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class RingBufferEventBusTest {
+
+    @Test
+    void singleProducerDeliversInSequenceOrder() throws InterruptedException {
+        RingBufferEventBus<Slot> bus = new RingBufferEventBus<>(8, Slot::new, RingBufferEventBus.ProducerType.SINGLE,
+                RingBufferEventBus.WaitStrategy.YIELD, 1, Thread::new);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        Set<Slot> slots = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        bus.register(new LambdaEventListener<Slot>(Target.fine(Slot.class), event -> {
+            received.add(event.value);
+            slots.add(event);
+        }));
+        bus.start();
+
+        for (int i = 0; i < 1000; i++) {
+            bus.publish(Slot::set, i);
+        }
+        bus.shutdown();
+        Assertions.assertTrue(bus.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(1000, received.size());
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(i, received.get(i));
+        }
+        Assertions.assertEquals(8, slots.size(), "slots must be reused");
+    }
+
+    @Test
+    void multipleProducersAndConsumersDeliverEverySlotOnce() throws Exception {
+        RingBufferEventBus<Slot> bus = new RingBufferEventBus<>(16, Slot::new, RingBufferEventBus.ProducerType.MULTI,
+                RingBufferEventBus.WaitStrategy.PARK, 2, Thread::new);
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        AtomicInteger deliveries = new AtomicInteger();
+        bus.register(new LambdaEventListener<Slot>(Target.fine(Slot.class), event -> {
+            received.add(event.value);
+            deliveries.incrementAndGet();
+        }));
+        bus.start();
+
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                int offset = p * 2500;
+                futures.add(producers.submit(() -> {
+                    for (int i = 0; i < 2500; i++) {
+                        bus.publish(Slot::set, offset + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            producers.shutdownNow();
+        }
+        bus.shutdown();
+        Assertions.assertTrue(bus.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(10000, deliveries.get());
+        Assertions.assertEquals(10000, received.size());
+    }
+
+    @Test
+    void listenersRunInPriorityOrder() throws InterruptedException {
+        RingBufferEventBus<Slot> bus = new RingBufferEventBus<>(4, Slot::new);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch delivered = new CountDownLatch(1);
+        bus.register(new LambdaEventListener<Slot>(Target.fine(Slot.class), 1, event -> {
+            order.add(1);
+            delivered.countDown();
+        }));
+        bus.register(new LambdaEventListener<Slot>(Target.fine(Slot.class), 5, event -> order.add(5)));
+        bus.start();
+
+        bus.publish(slot -> slot.set(0));
+        Assertions.assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(5, 1), order);
+        bus.shutdown();
+    }
+
+    @Test
+    void publishAfterShutdownThrows() {
+        RingBufferEventBus<Slot> bus = new RingBufferEventBus<>(4, Slot::new).start();
+        bus.shutdown();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> bus.publish(Slot::set, 1));
+        Assertions.assertThrows(UnsupportedOperationException.class, bus::start);
+    }
+
+    @Test
+    void shutdownWhileProducerWaitsForFullRingTerminates() throws Exception {
+        RingBufferEventBus<Slot> bus = new RingBufferEventBus<>(2, Slot::new, RingBufferEventBus.ProducerType.MULTI,
+                RingBufferEventBus.WaitStrategy.PARK, 1, Thread::new);
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        bus.register(new LambdaEventListener<Slot>(Target.fine(Slot.class), event -> {
+            blocking.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        bus.start();
+
+        bus.publish(Slot::set, 0);
+        Assertions.assertTrue(blocking.await(10, TimeUnit.SECONDS));
+        bus.publish(Slot::set, 1);
+
+        ExecutorService producer = Executors.newSingleThreadExecutor();
+        try {
+            // The ring is full, so this producer claims a sequence and waits for a free slot.
+            Future<?> waiting = producer.submit(() -> bus.publish(Slot::set, 2));
+            Thread.sleep(100);
+            bus.shutdown();
+            ExecutionException thrown = Assertions.assertThrows(ExecutionException.class, () -> waiting.get(10, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(UnsupportedOperationException.class, thrown.getCause());
+        } finally {
+            producer.shutdownNow();
+            release.countDown();
+        }
+
+        Assertions.assertTrue(bus.awaitTermination(10, TimeUnit.SECONDS), "Consumers should not wait for an abandoned claim.");
+    }
+
+    @Test
+    void capacityMustBeAPowerOfTwo() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RingBufferEventBus<>(6, Slot::new));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RingBufferEventBus<>(0, Slot::new));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RingBufferEventBus<>(2, Slot::new,
+                RingBufferEventBus.ProducerType.MULTI, RingBufferEventBus.WaitStrategy.YIELD, 3, Thread::new));
+    }
+
+    @Test
+    void slotsArePreallocated() {
+        Set<Slot> created = new HashSet<>();
+        RingBufferEventBus<Slot> bus = new RingBufferEventBus<>(32, () -> {
+            Slot slot = new Slot();
+            created.add(slot);
+            return slot;
+        });
+        Assertions.assertEquals(32, created.size());
+        Assertions.assertEquals(32, bus.getCapacity());
+    }
+
+    static final class Slot {
+
+        int value;
+
+        void set(int value) {
+            this.value = value;
+        }
+    }
+}
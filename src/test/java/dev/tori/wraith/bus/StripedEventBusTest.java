@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link StripedEventBus}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class StripedEventBusTest {
+
+    private StripedEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new StripedEventBus();
+    }
+
+    @Test
+    void registerAndUnregister() {
+        LambdaEventListener<StatusEvent> listener = new LambdaEventListener<>(Target.fine(StatusEvent.class), IStatusEvent::terminate);
+
+        bus.register(listener);
+        bus.register(listener);
+        Assertions.assertEquals(1, bus.getListeners().size(), "Registering the same listener twice should not duplicate it.");
+        Assertions.assertTrue(bus.dispatch(new StatusEvent()));
+
+        bus.unregister(listener);
+        Assertions.assertTrue(bus.getListeners().isEmpty(), "The event bus should be empty after its only listener is unregistered.");
+        Assertions.assertFalse(bus.dispatch(new StatusEvent()));
+    }
+
+    @Test
+    void stripesAreMergedInPriorityThenRegistrationOrder() {
+        List<String> invoked = new ArrayList<>();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, event -> invoked.add("fine0")));
+        bus.register(new LambdaEventListener<>(Target.cascade(CharSequence.class), 0, event -> invoked.add("cascade0")));
+        bus.register(new LambdaEventListener<>(Target.all(), 5, event -> invoked.add("all5")));
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, event -> invoked.add("fine0-late")));
+        bus.register(new LambdaEventListener<>(Target.fine(Integer.class), 10, event -> invoked.add("integer")));
+
+        bus.dispatch("");
+        Assertions.assertEquals(List.of("all5", "fine0", "cascade0", "fine0-late"), invoked);
+
+        invoked.clear();
+        bus.dispatch("", true);
+        Assertions.assertEquals(List.of("fine0-late", "cascade0", "fine0", "all5"), invoked);
+    }
+
+    @Test
+    void plansReflectLateStripes() {
+        AtomicInteger count = new AtomicInteger();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), event -> count.incrementAndGet()));
+        bus.dispatch("");
+
+        bus.register(new LambdaEventListener<>(Target.cascade(Object.class), 1, event -> count.incrementAndGet()));
+        bus.dispatch("");
+
+        Assertions.assertEquals(3, count.get(), "A listener with a new target should be picked up by existing dispatch plans.");
+    }
+
+    @Test
+    void finitePersistence() {
+        AtomicInteger count = new AtomicInteger();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, 2, event -> count.incrementAndGet()));
+
+        for (int i = 0; i < 4; i++) {
+            bus.dispatch("");
+        }
+        Assertions.assertEquals(2, count.get());
+    }
+
+    @Test
+    void concurrentChurnOnUnrelatedStripes() throws Exception {
+        final int producers = 6;
+        final int dispatches = 20_000;
+        final AtomicInteger stableCount = new AtomicInteger();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), event -> stableCount.incrementAndGet()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < dispatches; i++) {
+                        bus.dispatch("event");
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < 2; c++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 2_000; i++) {
+                        Listener<Object> churn = new LambdaEventListener<>(Target.fine(Integer.class), i % 7, event -> {
+                        });
+                        bus.register(churn);
+                        bus.dispatch(i);
+                        bus.unregister(churn);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(producers * dispatches, stableCount.get(), "The stable listener should see every event exactly once.");
+        Assertions.assertEquals(1, bus.getListeners().size(), "Only the stable listener should remain registered.");
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024-2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import dev.tori.wraith.listener.Listener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests that a listener unregistered by a higher priority listener of the same dispatch is not invoked by it.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class UnregisterDuringDispatchTest {
+
+    @Test
+    void eventBusSkipsUnregisteredListeners() {
+        assertSkipsUnregistered(new EventBus(), false);
+        assertSkipsUnregistered(new EventBus(), true);
+    }
+
+    @Test
+    void compiledEventBusSkipsUnregisteredListeners() {
+        assertSkipsUnregistered(new CompiledEventBus(), false);
+        assertSkipsUnregistered(new CompiledEventBus(), true);
+    }
+
+    @Test
+    void concurrentEventBusSkipsUnregisteredListeners() {
+        assertSkipsUnregistered(new ConcurrentEventBus(), false);
+        assertSkipsUnregistered(new ConcurrentEventBus(), true);
+    }
+
+    @Test
+    void stripedEventBusSkipsUnregisteredListeners() {
+        assertSkipsUnregistered(new StripedEventBus(), false);
+        assertSkipsUnregistered(new StripedEventBus(), true);
+    }
+
+    @Test
+    void lightweightEventBusSkipsUnregisteredListeners() {
+        assertSkipsUnregistered(new LightweightEventBus(), false);
+        assertSkipsUnregistered(new LightweightEventBus(), true);
+    }
+
+    @Test
+    void reRegisteredListenersAreInvoked() {
+        EventBus bus = new EventBus();
+        List<String> invoked = new ArrayList<>();
+        Listener<String> b = new LambdaEventListener<>(Target.fine(String.class), 0, event -> invoked.add("B"));
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 1, event -> {
+            invoked.add("A");
+            bus.unregister(b);
+            bus.register(b);
+        }));
+        bus.register(b);
+
+        bus.dispatch("event");
+
+        Assertions.assertEquals(List.of("A", "B"), invoked);
+    }
+
+    /**
+     * Registers a listener {@code A} that unregisters a lower priority listener {@code B} of the same event, then
+     * prepares the chain, which compiles it on a {@link CompiledEventBus}, and dispatches twice: once as is, and once
+     * with {@code A} unregistering {@code B}.
+     */
+    private static void assertSkipsUnregistered(IEventBus bus, boolean viaRegistration) {
+        List<String> invoked = new ArrayList<>();
+        boolean[] unregister = {false};
+        Listener<String> b = new LambdaEventListener<>(Target.fine(String.class), 0, event -> invoked.add("B"));
+        Registration[] registration = new Registration[1];
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 1, event -> {
+            invoked.add("A");
+            if (!unregister[0]) {
+                return;
+            }
+            if (viaRegistration) {
+                registration[0].unregister();
+            } else {
+                bus.unregister(b);
+            }
+        }));
+        registration[0] = bus.registerWithHandle(b);
+        bus.prepare(String.class);
+
+        bus.dispatch("first");
+        Assertions.assertEquals(List.of("A", "B"), invoked);
+
+        invoked.clear();
+        unregister[0] = true;
+        bus.dispatch("second");
+        Assertions.assertEquals(List.of("A"), invoked, bus.getClass().getSimpleName() + " invoked an unregistered listener.");
+    }
+}
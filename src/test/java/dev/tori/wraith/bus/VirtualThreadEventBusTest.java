@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.IStatusEvent;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.listener.LambdaEventListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link VirtualThreadEventBus}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class VirtualThreadEventBusTest {
+
+    @Test
+    void perEventDeliversInPriorityOrder() throws InterruptedException {
+        VirtualThreadEventBus bus = new VirtualThreadEventBus();
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<Integer> invoked = new CopyOnWriteArrayList<>();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), -1, event -> {
+            invoked.add(-1);
+            delivered.countDown();
+        }));
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 1, event -> invoked.add(1)));
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, event -> invoked.add(0)));
+
+        bus.dispatch("event");
+
+        Assertions.assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(1, 0, -1), invoked);
+    }
+
+    @Test
+    void perListenerRunsEqualPrioritiesConcurrently() throws InterruptedException {
+        VirtualThreadEventBus bus = new VirtualThreadEventBus(VirtualThreadEventBus.Mode.PER_LISTENER, false, 16);
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        CountDownLatch delivered = new CountDownLatch(1);
+        AtomicInteger levelOne = new AtomicInteger();
+        AtomicInteger seenByLevelTwo = new AtomicInteger(-1);
+
+        for (int i = 0; i < 3; i++) {
+            bus.register(new LambdaEventListener<CountingEvent>(Target.fine(CountingEvent.class), 1, event -> {
+                try {
+                    // Only passes if all three listeners of this level are running at once.
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                levelOne.incrementAndGet();
+                event.count.incrementAndGet();
+            }));
+        }
+        bus.register(new LambdaEventListener<CountingEvent>(Target.fine(CountingEvent.class), 0, event -> {
+            seenByLevelTwo.set(event.count.get());
+            delivered.countDown();
+        }));
+
+        bus.dispatch(new CountingEvent());
+
+        Assertions.assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(3, levelOne.get());
+        Assertions.assertEquals(3, seenByLevelTwo.get(), "A priority level should see every effect of the previous level.");
+    }
+
+    @Test
+    void perListenerStopsAfterTerminatingLevel() throws InterruptedException {
+        VirtualThreadEventBus bus = new VirtualThreadEventBus(VirtualThreadEventBus.Mode.PER_LISTENER, true, 16);
+        CountDownLatch delivered = new CountDownLatch(2);
+        AtomicInteger lowerLevel = new AtomicInteger();
+        bus.register(new LambdaEventListener<StatusEvent>(Target.fine(StatusEvent.class), 1, event -> {
+            event.terminate();
+            delivered.countDown();
+        }));
+        bus.register(new LambdaEventListener<StatusEvent>(Target.fine(StatusEvent.class), 1, event -> delivered.countDown()));
+        bus.register(new LambdaEventListener<StatusEvent>(Target.fine(StatusEvent.class), 0, event -> lowerLevel.incrementAndGet()));
+
+        bus.dispatch(new StatusEvent());
+        bus.dispatch("flush");
+
+        Assertions.assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        Assertions.assertEquals(0, lowerLevel.get(), "A terminated event should not reach lower priority levels.");
+    }
+
+    @Test
+    void perListenerSuppressesForkedFailures() {
+        VirtualThreadEventBus bus = new VirtualThreadEventBus(VirtualThreadEventBus.Mode.PER_LISTENER, false, 16);
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, event -> {
+            throw new IllegalStateException("first");
+        }));
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, event -> {
+            throw new IllegalStateException("second");
+        }));
+
+        IllegalStateException thrown = Assertions.assertThrows(IllegalStateException.class,
+                () -> bus.deliver("event", Target.all(), false));
+
+        Assertions.assertEquals(1, thrown.getSuppressed().length, "Every other failure of the level should be suppressed.");
+        Assertions.assertNotEquals(thrown.getMessage(), thrown.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    void perListenerSkipsExpiredListeners() {
+        VirtualThreadEventBus bus = new VirtualThreadEventBus(VirtualThreadEventBus.Mode.PER_LISTENER, false, 16);
+        AtomicInteger invoked = new AtomicInteger();
+        LambdaEventListener<String> once = new LambdaEventListener<>(Target.fine(String.class), 0, 1, event -> invoked.incrementAndGet());
+        bus.register(once);
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), 0, event -> {
+        }));
+
+        // Expires the listener while it is still registered, as a concurrent delivery would.
+        Assertions.assertFalse(once.shouldPersist());
+        bus.deliver("event", Target.all(), false);
+
+        Assertions.assertEquals(0, invoked.get(), "An expired listener should not be invoked.");
+    }
+
+    @Test
+    void perListenerKeepsPersistenceOfTerminatingLevel() {
+        VirtualThreadEventBus bus = new VirtualThreadEventBus(VirtualThreadEventBus.Mode.PER_LISTENER, false, 16);
+        LambdaEventListener<StatusEvent> terminator = new LambdaEventListener<>(Target.fine(StatusEvent.class), 0, 1, IStatusEvent::terminate);
+        LambdaEventListener<StatusEvent> sibling = new LambdaEventListener<>(Target.fine(StatusEvent.class), 0, 1, event -> {
+        });
+        bus.register(terminator);
+        bus.register(sibling);
+
+        Assertions.assertTrue(bus.deliver(new StatusEvent(), Target.all(), false));
+
+        Assertions.assertFalse(terminator.isExpired(), "A terminated event should not consume a persistence count.");
+        Assertions.assertFalse(sibling.isExpired(), "A terminated event should not consume a persistence count.");
+    }
+
+    static final class CountingEvent {
+
+        private final AtomicInteger count = new AtomicInteger();
+    }
+}
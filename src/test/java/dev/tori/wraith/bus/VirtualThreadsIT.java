@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.bus;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.LambdaEventListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the Java 21 layer of {@link VirtualThreads}, run by the {@code java21} profile against the packaged
+ * multi-release jar.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class VirtualThreadsIT {
+
+    @Test
+    void loadsJava21Layer() {
+        Assertions.assertTrue(VirtualThreads.class.getProtectionDomain().getCodeSource().getLocation().getPath().endsWith(".jar"),
+                "VirtualThreads should be loaded from the packaged jar.");
+        Assertions.assertTrue(VirtualThreads.isSupported());
+        Assertions.assertTrue(VirtualThreadEventBus.isVirtual());
+    }
+
+    @Test
+    void deliversOnVirtualThreads() throws Exception {
+        VirtualThreadEventBus bus = new VirtualThreadEventBus();
+        CompletableFuture<Thread> deliveredOn = new CompletableFuture<>();
+        bus.register(new LambdaEventListener<>(Target.fine(String.class), event -> deliveredOn.complete(Thread.currentThread())));
+
+        bus.dispatch("event");
+
+        Thread thread = deliveredOn.get(10, TimeUnit.SECONDS);
+        Assertions.assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        Assertions.assertTrue(thread.getName().startsWith("wraith-dispatch-"));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.event;
+
+import dev.tori.wraith.bus.EventBus;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.event.status.StatusEventPool;
+import dev.tori.wraith.listener.LambdaEventListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for {@link StatusEventPool}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class StatusEventPoolTest {
+
+    @Test
+    void releasedEventsAreResetAndReused() {
+        StatusEventPool pool = new StatusEventPool().register(CountEvent.class, CountEvent::new);
+
+        CountEvent first = pool.acquire(CountEvent.class);
+        first.count = 5;
+        first.terminate();
+        pool.release(first);
+
+        CountEvent second = pool.acquire(CountEvent.class);
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(0, second.count);
+        Assertions.assertTrue(second.isAlive());
+        Assertions.assertEquals(1, pool.getHits());
+        Assertions.assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    void dispatchPooledReusesEvents() {
+        EventBus bus = new EventBus();
+        StatusEventPool pool = new StatusEventPool().register(CountEvent.class, CountEvent::new);
+        int[] sum = new int[1];
+        bus.register(new LambdaEventListener<CountEvent>(Target.fine(CountEvent.class), event -> {
+            sum[0] += event.count;
+            if (event.count == 3) {
+                event.suppress();
+            }
+        }));
+
+        for (int i = 1; i <= 100; i++) {
+            int count = i;
+            boolean cancelled = bus.dispatchPooled(pool, CountEvent.class, event -> event.count = count);
+            Assertions.assertEquals(count == 3, cancelled);
+        }
+
+        Assertions.assertEquals(5050, sum[0]);
+        Assertions.assertEquals(1, pool.getMisses());
+        Assertions.assertEquals(99, pool.getHits());
+    }
+
+    @Test
+    void doubleReleaseThrows() {
+        StatusEventPool pool = new StatusEventPool().register(CountEvent.class, CountEvent::new);
+        CountEvent event = pool.acquire(CountEvent.class);
+        pool.release(event);
+        Assertions.assertThrows(IllegalStateException.class, () -> pool.release(event));
+    }
+
+    @Test
+    void eventsReleasedToAFullPoolAreDroppedButUsable() {
+        StatusEventPool pool = new StatusEventPool(1, false).register(CountEvent.class, CountEvent::new);
+        CountEvent kept = pool.acquire(CountEvent.class);
+        CountEvent dropped = pool.acquire(CountEvent.class);
+
+        pool.release(kept);
+        pool.release(dropped);
+
+        Assertions.assertSame(kept, pool.acquire(CountEvent.class));
+        Assertions.assertNotSame(dropped, pool.acquire(CountEvent.class));
+        Assertions.assertEquals(1, pool.getHits());
+        dropped.terminate();
+        Assertions.assertTrue(dropped.isTerminated(), "A dropped event is never reused, so it should stay usable.");
+        Assertions.assertThrows(IllegalStateException.class, () -> pool.release(dropped));
+    }
+
+    @Test
+    void debugModeDetectsEscapedEvents() {
+        EventBus bus = new EventBus();
+        StatusEventPool pool = new StatusEventPool(16, true).register(CountEvent.class, CountEvent::new);
+        AtomicReference<CountEvent> escaped = new AtomicReference<>();
+        bus.register(new LambdaEventListener<CountEvent>(Target.fine(CountEvent.class), escaped::set));
+
+        bus.dispatchPooled(pool, CountEvent.class, event -> event.count = 1);
+        bus.dispatchPooled(pool, CountEvent.class, event -> event.count = 2);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> escaped.get().isTerminated());
+        Assertions.assertEquals(0, pool.getHits());
+        Assertions.assertEquals(2, pool.getMisses());
+    }
+
+    @Test
+    void acquireWithoutFactoryThrows() {
+        StatusEventPool pool = new StatusEventPool();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> pool.acquire(CountEvent.class));
+    }
+
+    static final class CountEvent extends StatusEvent {
+
+        int count;
+
+        @Override
+        public void reset() {
+            super.reset();
+            count = 0;
+        }
+    }
+}
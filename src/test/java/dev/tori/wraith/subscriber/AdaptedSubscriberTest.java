@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.bus.EventBus;
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.event.status.StatusEvent;
+import dev.tori.wraith.listener.Listen;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tests for {@link Adapted} subscribers.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class AdaptedSubscriberTest {
+
+    @Test
+    void methodsShareOneListener() {
+        Handlers handlers = new Handlers();
+        EventBus bus = new EventBus();
+        bus.subscribe(handlers);
+
+        Assertions.assertEquals(2, handlers.getListeners().size(), "Only the limited method should stay separate.");
+        Assertions.assertEquals(2, bus.getListeners().size());
+        Assertions.assertFalse(bus.hasListeners(Long.class));
+
+        bus.dispatch("event");
+        bus.dispatch(1);
+        bus.dispatch(new StringBuilder());
+
+        Assertions.assertEquals(List.of(
+                "high.onString", "onCharSequence", "onString", "once.onString",
+                "onInteger",
+                "onCharSequence"
+        ), handlers.received);
+    }
+
+    @Test
+    void limitedMethodsExpireSeparately() {
+        Handlers handlers = new Handlers();
+        EventBus bus = new EventBus();
+        bus.subscribe(handlers);
+
+        bus.dispatch("first");
+        handlers.received.clear();
+        bus.dispatch("second");
+
+        Assertions.assertEquals(List.of("high.onString", "onCharSequence", "onString"), handlers.received);
+        Assertions.assertEquals(1, bus.getListeners().size());
+    }
+
+    @Test
+    void terminationStopsRemainingMethods() {
+        Terminating terminating = new Terminating();
+        EventBus bus = new EventBus();
+        bus.subscribe(terminating);
+
+        Assertions.assertTrue(bus.dispatch(new MyEvent()));
+        Assertions.assertEquals(List.of("terminator"), terminating.received);
+    }
+
+    @Test
+    void unsubscribingRemovesTheAdapter() {
+        Handlers handlers = new Handlers();
+        EventBus bus = new EventBus();
+        bus.subscribe(handlers);
+        bus.unsubscribe(handlers);
+
+        bus.dispatch("event");
+
+        Assertions.assertTrue(handlers.received.isEmpty());
+        Assertions.assertTrue(bus.getListeners().isEmpty());
+    }
+
+    @Test
+    void adaptationIsInherited() {
+        Assertions.assertEquals(1, new Terminating() {
+        }.getListeners().size());
+    }
+
+    @Test
+    void anyOfMatchesEachTarget() {
+        Target target = Target.anyOf(Target.fine(String.class), Target.cascade(Number.class));
+
+        Assertions.assertTrue(target.targets(String.class));
+        Assertions.assertTrue(target.targets(Integer.class));
+        Assertions.assertFalse(target.targets(CharSequence.class));
+        Assertions.assertFalse(target.targets(Object.class));
+        Assertions.assertEquals(Object.class, target.clazz());
+        Assertions.assertEquals(Integer.class, Target.anyOf(Target.fine(Integer.class), Target.fine(Integer.class)).clazz());
+        Assertions.assertEquals(target, Target.anyOf(Target.fine(String.class), Target.cascade(Number.class)));
+        Assertions.assertThrows(IllegalArgumentException.class, Target::anyOf);
+    }
+
+    @Test
+    void adaptedSubscriberClassesCanBeUnloaded() throws Exception {
+        WeakReference<ClassLoader> loader = loadAndDispatch();
+        for (int i = 0; (i < 20) && (loader.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(loader.get(), "The class loader of an adapted subscriber should have been collected.");
+    }
+
+    /**
+     * Loads a fresh copy of {@link Unloadable} in its own class loader, and dispatches an event to it.
+     */
+    private WeakReference<ClassLoader> loadAndDispatch() throws Exception {
+        String name = Unloadable.class.getName();
+        byte[] bytes;
+        try (InputStream in = Unloadable.class.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            bytes = Objects.requireNonNull(in).readAllBytes();
+        }
+        ClassLoader loader = new ClassLoader(AdaptedSubscriberTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String className, boolean resolve) throws ClassNotFoundException {
+                return className.equals(name) ? defineClass(name, bytes, 0, bytes.length) : super.loadClass(className, resolve);
+            }
+        };
+        Class<?> type = loader.loadClass(name);
+        Assertions.assertNotSame(Unloadable.class, type);
+
+        Subscriber subscriber = (Subscriber) type.getConstructor().newInstance();
+        EventBus bus = new EventBus();
+        bus.subscribe(subscriber);
+        bus.dispatch("event");
+        bus.dispatch(1);
+        Assertions.assertEquals(1, subscriber.getListeners().size());
+        Assertions.assertEquals(2, type.getField("received").getInt(subscriber));
+        return new WeakReference<>(loader);
+    }
+
+    @Adapted
+    public static class Unloadable extends Subscriber {
+
+        public int received;
+
+        @Listen
+        public void onString(String event) {
+            received++;
+        }
+
+        @Listen
+        public void onInteger(Integer event) {
+            received++;
+        }
+    }
+
+    @Adapted
+    public static class Handlers extends Subscriber {
+
+        final List<String> received = new ArrayList<>();
+
+        @Listen
+        public void onString(String event) {
+            received.add("onString");
+        }
+
+        @Listen(priority = 10)
+        public void onStringFirst(String event) {
+            received.add("high.onString");
+        }
+
+        @Listen(priority = -1, persists = 1)
+        public void onStringOnce(String event) {
+            received.add("once.onString");
+        }
+
+        @Listen(priority = 5, rule = Target.TargetingRule.CASCADE)
+        public void onCharSequence(CharSequence event) {
+            received.add("onCharSequence");
+        }
+
+        @Listen
+        public void onInteger(Integer event) {
+            received.add("onInteger");
+        }
+    }
+
+    @Adapted
+    public static class Terminating extends Subscriber {
+
+        final List<String> received = new ArrayList<>();
+
+        @Listen(priority = 1)
+        public void terminate(MyEvent event) {
+            received.add("terminator");
+            event.terminate();
+        }
+
+        @Listen
+        public void skipped(MyEvent event) {
+            received.add("skipped");
+        }
+    }
+
+    static final class MyEvent extends StatusEvent {
+    }
+}
\ No newline at end of file
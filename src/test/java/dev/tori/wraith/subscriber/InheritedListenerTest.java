@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.bus.EventBus;
+import dev.tori.wraith.listener.Listen;
+import dev.tori.wraith.listener.Listener;
+import dev.tori.wraith.subscriber.other.PackagePrivateBase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests discovery of {@link Listen} methods declared by superclasses and interfaces.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class InheritedListenerTest {
+
+    @Test
+    void inheritedListenersAreRegistered() {
+        Leaf leaf = new Leaf();
+        dispatch(leaf, "event");
+
+        Assertions.assertEquals(List.of(
+                "leaf.onOverridden", "leaf.onAnnotatedOverride", "leaf.onAbstract",
+                "base.onInherited", "base.onPrivate", "leaf.onPrivate", "interface.onDefault"
+        ).stream().sorted().toList(), leaf.received.stream().sorted().toList());
+    }
+
+    @Test
+    void overridesUseTheMostSpecificAnnotation() {
+        Leaf leaf = new Leaf();
+        Listener<?> override = null;
+        for (Listener<?> listener : leaf.getListeners()) {
+            if (listener.getPriority() == 7) {
+                override = listener;
+            }
+        }
+
+        Assertions.assertNotNull(override, "The overriding method's priority should be used.");
+        Assertions.assertEquals(7, leaf.getListeners().size());
+    }
+
+    @Test
+    void hierarchiesAreResolvedOnce() {
+        Assertions.assertSame(ListenerMethods.of(Leaf.class), ListenerMethods.of(Leaf.class));
+        Assertions.assertEquals(5, ListenerMethods.of(Base.class).length, "Base should not see Leaf's listeners.");
+    }
+
+    @Test
+    void genericListenersAreImplementedThroughBridges() {
+        StringListener listener = new StringListener();
+        EventBus bus = new EventBus();
+        bus.subscribe(listener);
+        bus.dispatch("event");
+        bus.dispatch(42);
+
+        Assertions.assertEquals(List.of("event"), listener.received);
+        Assertions.assertEquals(1, listener.getListeners().size());
+    }
+
+    @Test
+    void annotatedGenericImplementationsAreRegisteredOnce() {
+        AnnotatedStringListener listener = new AnnotatedStringListener();
+        dispatch(listener, "event");
+
+        Assertions.assertEquals(List.of("event"), listener.received);
+        Assertions.assertEquals(1, listener.getListeners().size());
+        Assertions.assertEquals(3, listener.getListeners().iterator().next().getPriority());
+    }
+
+    @Test
+    void publicMethodsOverridePackagePrivateListeners() {
+        SamePackageLeaf leaf = new SamePackageLeaf();
+        dispatch(leaf, "event");
+
+        Assertions.assertEquals(List.of("leaf.onEvent"), leaf.received);
+        Assertions.assertEquals(1, leaf.getListeners().size());
+        Assertions.assertEquals(2, leaf.getListeners().iterator().next().getPriority());
+    }
+
+    @Test
+    void packagePrivateListenersAreNotOverriddenAcrossPackages() {
+        CrossPackageLeaf leaf = new CrossPackageLeaf();
+        dispatch(leaf, "event");
+
+        Assertions.assertEquals(List.of("base.onEvent", "leaf.onEvent"), leaf.received.stream().sorted().toList());
+        Assertions.assertEquals(2, leaf.getListeners().size());
+    }
+
+    private static void dispatch(Subscriber subscriber, String event) {
+        EventBus bus = new EventBus();
+        bus.subscribe(subscriber);
+        bus.dispatch(event);
+    }
+
+    interface Defaults {
+
+        List<String> received();
+
+        @Listen
+        default void onDefault(String event) {
+            received().add("interface.onDefault");
+        }
+    }
+
+    public abstract static class Base extends Subscriber implements Defaults {
+
+        final List<String> received = new ArrayList<>();
+
+        @Override
+        public List<String> received() {
+            return received;
+        }
+
+        @Listen
+        public void onInherited(String event) {
+            received.add("base.onInherited");
+        }
+
+        @Listen
+        public void onOverridden(String event) {
+            received.add("base.onOverridden");
+        }
+
+        @Listen
+        public void onAnnotatedOverride(String event) {
+            received.add("base.onAnnotatedOverride");
+        }
+
+        @Listen
+        public abstract void onAbstract(String event);
+
+        @Listen
+        private void onPrivate(String event) {
+            received.add("base.onPrivate");
+        }
+    }
+
+    public static class Leaf extends Base {
+
+        @Override
+        public void onOverridden(String event) {
+            received.add("leaf.onOverridden");
+        }
+
+        @Override
+        @Listen(priority = 7)
+        public void onAnnotatedOverride(String event) {
+            received.add("leaf.onAnnotatedOverride");
+        }
+
+        @Override
+        public void onAbstract(String event) {
+            received.add("leaf.onAbstract");
+        }
+
+        @Listen
+        private void onPrivate(String event) {
+            received.add("leaf.onPrivate");
+        }
+    }
+
+    interface GenericListener<T> {
+
+        @Listen
+        void on(T event);
+    }
+
+    public static class StringListener extends Subscriber implements GenericListener<String> {
+
+        final List<String> received = new ArrayList<>();
+
+        @Override
+        public void on(String event) {
+            received.add(event);
+        }
+    }
+
+    public static class AnnotatedStringListener extends Subscriber implements GenericListener<String> {
+
+        final List<String> received = new ArrayList<>();
+
+        @Override
+        @Listen(priority = 3)
+        public void on(String event) {
+            received.add(event);
+        }
+    }
+
+    public abstract static class SamePackageBase extends Subscriber {
+
+        final List<String> received = new ArrayList<>();
+
+        @Listen
+        void onEvent(String event) {
+            received.add("base.onEvent");
+        }
+    }
+
+    public static class SamePackageLeaf extends SamePackageBase {
+
+        @Override
+        @Listen(priority = 2)
+        public void onEvent(String event) {
+            received.add("leaf.onEvent");
+        }
+    }
+
+    public static class CrossPackageLeaf extends PackagePrivateBase {
+
+        @Listen
+        void onEvent(String event) {
+            received.add("leaf.onEvent");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.bus.EventBus;
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.Listen;
+import dev.tori.wraith.listener.Listener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests that the {@link Listen} methods of a subscriber class are parsed once and bound per instance.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class ListenerMethodCacheTest {
+
+    @Test
+    void instancesShareParsedMetadata() {
+        Listener<?> first = new CachedSubscriber().getListeners().iterator().next();
+        Listener<?> second = new CachedSubscriber().getListeners().iterator().next();
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(first.getTarget(), second.getTarget(), "The parsed target should be shared by every instance.");
+        Assertions.assertEquals(Target.fine(String.class), first.getTarget());
+        Assertions.assertEquals(5, first.getPriority());
+    }
+
+    @Test
+    void instancesReceiveTheirOwnEvents() {
+        CachedSubscriber first = new CachedSubscriber();
+        CachedSubscriber second = new CachedSubscriber();
+        EventBus firstBus = new EventBus();
+        EventBus secondBus = new EventBus();
+        firstBus.subscribe(first);
+        secondBus.subscribe(second);
+
+        firstBus.dispatch("a");
+        secondBus.dispatch("b");
+
+        Assertions.assertEquals(List.of("a"), first.received);
+        Assertions.assertEquals(List.of("b"), second.received);
+    }
+
+    public static class CachedSubscriber extends Subscriber {
+
+        private final List<String> received = new ArrayList<>();
+
+        @Listen(priority = 5)
+        private void onString(String event) {
+            received.add(event);
+        }
+    }
+}
\ No newline at end of file
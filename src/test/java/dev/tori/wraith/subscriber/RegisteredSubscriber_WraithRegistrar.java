@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.event.Target;
+import dev.tori.wraith.listener.ListenerBuilder;
+
+/**
+ * What {@code wraith-processor} generates for {@link RegisteredSubscriber}, plus a marker.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+public final class RegisteredSubscriber_WraithRegistrar implements SubscriberRegistrar<RegisteredSubscriber> {
+
+    @Override
+    public void registerListeners(RegisteredSubscriber subscriber) {
+        subscriber.registeredByRegistrar = true;
+        subscriber.registerListener(new ListenerBuilder<String>()
+                .priority(0)
+                .persists(0)
+                .target(String.class, Target.TargetingRule.FINE)
+                .invokable(subscriber::onEvent)
+                .build());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.subscriber;
+
+import dev.tori.wraith.bus.EventBus;
+import dev.tori.wraith.listener.Listen;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that {@link Subscriber} prefers a {@link SubscriberRegistrar} over reflection.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class SubscriberRegistrarTest {
+
+    @Test
+    void registrarIsUsedWhenPresent() {
+        RegisteredSubscriber subscriber = new RegisteredSubscriber();
+        EventBus bus = new EventBus();
+        bus.subscribe(subscriber);
+        bus.dispatch("event");
+
+        Assertions.assertTrue(subscriber.registeredByRegistrar);
+        Assertions.assertEquals(1, subscriber.getListeners().size());
+        Assertions.assertEquals(1, subscriber.received);
+    }
+
+    @Test
+    void reflectionIsUsedOtherwise() {
+        ReflectedSubscriber subscriber = new ReflectedSubscriber();
+        EventBus bus = new EventBus();
+        bus.subscribe(subscriber);
+        bus.dispatch("event");
+
+        Assertions.assertEquals(1, subscriber.getListeners().size());
+        Assertions.assertEquals(1, subscriber.received);
+    }
+
+    public static class ReflectedSubscriber extends Subscriber {
+
+        int received;
+
+        @Listen
+        void onEvent(String event) {
+            received++;
+        }
+    }
+}
@@ -87,4 +87,22 @@ public class IndexedHashSetTest {
         Assertions.assertEquals("b", set.get(1));
         Assertions.assertEquals("c", set.get(2));
     }
+
+    @Test
+    void testIdentityBased() {
+        IndexedHashSet<String> set = IndexedHashSet.identityBased();
+        String first = new String("A");
+        String second = new String("A");
+        set.add(first);
+        set.add(second);
+        set.add(first);
+
+        Assertions.assertTrue(set.isIdentityBased());
+        Assertions.assertEquals(2, set.size());
+
+        set.remove(second);
+
+        Assertions.assertEquals(1, set.size());
+        Assertions.assertSame(first, set.get(0));
+    }
 }
\ No newline at end of file
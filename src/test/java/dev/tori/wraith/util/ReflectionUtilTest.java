@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.util;
+
+import dev.tori.wraith.listener.Invokable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link ReflectionUtil#createInvokable(Method, Object, boolean)} and its method handle fallback.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class ReflectionUtilTest {
+
+    @Test
+    void invokersAreGeneratedForTheDeclaringClass() throws NoSuchMethodException {
+        Method method = Handlers.class.getDeclaredMethod("onString", String.class);
+        Invokable<Object> invokable = ReflectionUtil.createInvokable(method, new Handlers(), true);
+        Assertions.assertTrue(isGenerated(invokable), "Expected a generated invoker, got " + invokable.getClass().getName());
+    }
+
+    @Test
+    void eachMethodGetsItsOwnInvokerClass() throws NoSuchMethodException {
+        Method string = Handlers.class.getDeclaredMethod("onString", String.class);
+        Method parameterless = Handlers.class.getDeclaredMethod("onAnything");
+        Invokable<Object> first = ReflectionUtil.createInvokable(string, new Handlers(), true);
+        Invokable<Object> second = ReflectionUtil.createInvokable(string, new Handlers(), true);
+        Invokable<Object> other = ReflectionUtil.createInvokable(parameterless, new Handlers(), false);
+
+        Assertions.assertTrue(isGenerated(other), "Methods without a parameter should be generated directly.");
+        Assertions.assertSame(first.getClass(), second.getClass());
+        Assertions.assertNotSame(first.getClass(), other.getClass());
+    }
+
+    @Test
+    void invokersAreBoundToTheirOwnInstance() throws NoSuchMethodException {
+        Method method = Handlers.class.getDeclaredMethod("onString", String.class);
+        Handlers first = new Handlers();
+        Handlers second = new Handlers();
+        ReflectionUtil.createInvokable(method, first, true).invoke("a");
+        ReflectionUtil.createInvokable(method, second, true).invoke("b");
+
+        Assertions.assertEquals(List.of("a"), first.received);
+        Assertions.assertEquals(List.of("b"), second.received);
+    }
+
+    @Test
+    void privatePrimitiveAndParameterlessMethodsAreInvoked() throws NoSuchMethodException {
+        Handlers handlers = new Handlers();
+        Method primitive = Handlers.class.getDeclaredMethod("onInt", int.class);
+        Method parameterless = Handlers.class.getDeclaredMethod("onAnything");
+        primitive.setAccessible(true);
+
+        ReflectionUtil.createInvokable(primitive, handlers, true).invoke(7);
+        ReflectionUtil.createInvokable(parameterless, handlers, false).invoke(new Object());
+
+        Assertions.assertEquals(List.of("7", "anything"), handlers.received);
+    }
+
+    @Test
+    void staticMethodsAreInvoked() throws NoSuchMethodException {
+        Method method = Handlers.class.getDeclaredMethod("onStatic", StringBuilder.class);
+        StringBuilder builder = new StringBuilder();
+        ReflectionUtil.createInvokable(method, new Handlers(), true).invoke(builder);
+        Assertions.assertEquals("static", builder.toString());
+    }
+
+    @Test
+    void exceptionsPropagate() throws NoSuchMethodException {
+        Method method = Handlers.class.getDeclaredMethod("onFailure", String.class);
+        Invokable<Object> invokable = ReflectionUtil.createInvokable(method, new Handlers(), true);
+        RuntimeException thrown = Assertions.assertThrows(RuntimeException.class, () -> invokable.invoke("boom"));
+        Assertions.assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+
+    @Test
+    void checkedExceptionsAreWrappedByEveryInvoker() throws NoSuchMethodException {
+        Method method = Handlers.class.getDeclaredMethod("onChecked", String.class);
+        Invokable<Object> generated = ReflectionUtil.createInvokable(method, new Handlers(), true);
+        Invokable<Object> handle = ReflectionUtil.createHandleInvokable(method, new Handlers(), true);
+        Assertions.assertTrue(isGenerated(generated));
+
+        for (Invokable<Object> invokable : List.of(generated, handle)) {
+            RuntimeException thrown = Assertions.assertThrows(RuntimeException.class, () -> invokable.invoke("boom"));
+            Assertions.assertEquals("Error invoking method: onChecked", thrown.getMessage());
+            Assertions.assertInstanceOf(IOException.class, thrown.getCause());
+        }
+    }
+
+    @Test
+    void handleInvokersAreBoundToTheirOwnInstance() throws NoSuchMethodException {
+        Method method = Handlers.class.getDeclaredMethod("onString", String.class);
+        Handlers first = new Handlers();
+        Handlers second = new Handlers();
+        ReflectionUtil.createHandleInvokable(method, first, true).invoke("a");
+        ReflectionUtil.createHandleInvokable(method, second, true).invoke("b");
+
+        Assertions.assertEquals(List.of("a"), first.received);
+        Assertions.assertEquals(List.of("b"), second.received);
+    }
+
+    @Test
+    void handleInvokersSupportEveryMethodShape() throws NoSuchMethodException {
+        Handlers handlers = new Handlers();
+        Method primitive = Handlers.class.getDeclaredMethod("onInt", int.class);
+        Method parameterless = Handlers.class.getDeclaredMethod("onAnything");
+        Method staticMethod = Handlers.class.getDeclaredMethod("onStatic", StringBuilder.class);
+        primitive.setAccessible(true);
+        StringBuilder builder = new StringBuilder();
+
+        ReflectionUtil.createHandleInvokable(primitive, handlers, true).invoke(7);
+        ReflectionUtil.createHandleInvokable(parameterless, handlers, false).invoke(new Object());
+        ReflectionUtil.createHandleInvokable(staticMethod, null, true).invoke(builder);
+
+        Assertions.assertEquals(List.of("7", "anything"), handlers.received);
+        Assertions.assertEquals("static", builder.toString());
+    }
+
+    @Test
+    void handlesAreSharedAcrossThreads() throws Exception {
+        Method method = Handlers.class.getDeclaredMethod("onString", String.class);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<MethodHandle>> handles = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                handles.add(executor.submit(() -> {
+                    start.await();
+                    Handlers handlers = new Handlers();
+                    ReflectionUtil.createHandleInvokable(method, handlers, true).invoke("event");
+                    Assertions.assertEquals(List.of("event"), handlers.received);
+                    return ReflectionUtil.getUnboundHandle(method);
+                }));
+            }
+            start.countDown();
+
+            MethodHandle expected = handles.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<MethodHandle> handle : handles) {
+                Assertions.assertSame(expected, handle.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static boolean isGenerated(Invokable<Object> invokable) {
+        return invokable.getClass().isHidden() && invokable.getClass().getName().startsWith(GeneratedInvoker.class.getName() + "/");
+    }
+
+    static class Handlers {
+
+        final List<String> received = new ArrayList<>();
+
+        static void onStatic(StringBuilder builder) {
+            builder.append("static");
+        }
+
+        void onString(String event) {
+            received.add(event);
+        }
+
+        private void onInt(int event) {
+            received.add(String.valueOf(event));
+        }
+
+        void onAnything() {
+            received.add("anything");
+        }
+
+        void onFailure(String event) {
+            throw new IllegalStateException(event);
+        }
+
+        void onChecked(String event) throws IOException {
+            throw new IOException(event);
+        }
+    }
+}
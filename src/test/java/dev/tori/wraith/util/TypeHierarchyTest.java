@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 7orivorian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package dev.tori.wraith.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * Tests for {@link TypeHierarchy}.
+ *
+ * @author <a href="https://github.com/7orivorian">7orivorian</a>
+ * @since 4.2.0
+ */
+class TypeHierarchyTest {
+
+    private static final Class<?>[] TYPES = {
+            Object.class, String.class, CharSequence.class, Comparable.class, Serializable.class, Integer.class,
+            Number.class, ArrayList.class, AbstractList.class, List.class, Collection.class, Iterable.class,
+            RandomAccess.class, Runnable.class, int.class, long.class, String[].class, Object[].class,
+            CharSequence[].class, Child.class, Parent.class, Marker.class, SubMarker.class
+    };
+
+    @Test
+    void agreesWithIsAssignableFrom() {
+        for (Class<?> type : TYPES) {
+            for (Class<?> supertype : TYPES) {
+                Assertions.assertEquals(supertype.isAssignableFrom(type), TypeHierarchy.isSubtype(type, supertype),
+                        type + " -> " + supertype);
+            }
+        }
+    }
+
+    @Test
+    void handlesHiddenClasses() {
+        Runnable lambda = () -> {
+        };
+        Assertions.assertTrue(TypeHierarchy.isSubtype(lambda.getClass(), Runnable.class));
+        Assertions.assertTrue(TypeHierarchy.isSubtype(lambda.getClass(), Object.class));
+        Assertions.assertFalse(TypeHierarchy.isSubtype(lambda.getClass(), Supplier.class));
+    }
+
+    @Test
+    void doesNotPinClassLoaders() throws Exception {
+        WeakReference<ClassLoader> loader = loadAndQuery();
+        for (int i = 0; (i < 20) && (loader.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(loader.get(), "The class loader should have been collected.");
+    }
+
+    @Test
+    void cacheSizeDoesNotGrowWithClassesSeen() throws Exception {
+        URL classes = TypeHierarchyTest.class.getProtectionDomain().getCodeSource().getLocation();
+        for (int i = 0; i < 200; i++) {
+            try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+                Class<?> child = loader.loadClass(Child.class.getName());
+                Assertions.assertTrue(TypeHierarchy.isSubtype(child, Object.class));
+                // Child, Parent, SubMarker, Marker, Serializable and Object.
+                Assertions.assertEquals(6, TypeHierarchy.getSupertypeCount(child));
+            }
+        }
+    }
+
+    private WeakReference<ClassLoader> loadAndQuery() throws Exception {
+        URL classes = TypeHierarchyTest.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+            Class<?> child = loader.loadClass(Child.class.getName());
+            Class<?> parent = loader.loadClass(Parent.class.getName());
+            Assertions.assertNotSame(Child.class, child);
+            Assertions.assertTrue(TypeHierarchy.isSubtype(child, parent));
+            Assertions.assertFalse(TypeHierarchy.isSubtype(child, Parent.class));
+            return new WeakReference<>(loader);
+        }
+    }
+
+    interface Marker {
+
+    }
+
+    interface SubMarker extends Marker {
+
+    }
+
+    static class Parent implements SubMarker {
+
+    }
+
+    static class Child extends Parent implements Serializable {
+
+    }
+}